@@ -2,24 +2,30 @@ package com.bookmyhotel.config;
 
 import java.io.IOException;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.bookmyhotel.service.TokenRevocationService;
+import com.bookmyhotel.service.UserPrincipalCache;
+import com.bookmyhotel.tenant.HotelAdminContext;
 import com.bookmyhotel.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
- * JWT Authentication Filter to validate tokens and set authentication in SecurityContext
+ * JWT Authentication Filter to validate tokens and set authentication in SecurityContext.
+ * Stateless: the principal comes from the token's claims, built once per token by
+ * UserPrincipalCache, and revocation is checked in memory.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -28,7 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private ObjectProvider<HotelAdminContext> hotelAdminContextProvider;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -36,29 +48,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        // The token is verified once; everything below works from its claims
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                claims = jwtUtil.verify(authorizationHeader.substring(7));
             } catch (Exception e) {
-                logger.warn("JWT token extraction failed: " + e.getMessage());
+                logger.warn("JWT token verification failed: " + e.getMessage());
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        JwtPrincipal userDetails = claims != null ? userPrincipalCache.get(claims) : null;
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (userDetails != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenRevocationService.isRevoked(claims)) {
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            resolveHotelAdminContext(claims, userDetails);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Fill the request's hotel context from the token claims
+     */
+    private void resolveHotelAdminContext(Claims claims, JwtPrincipal user) {
+        HotelAdminContext context = hotelAdminContextProvider.getIfAvailable();
+        if (context == null) {
+            return;
+        }
+
+        Object hotelId = claims.get("hotelId");
+        if (!(hotelId instanceof Number)) {
+            return;
+        }
+        context.resolve(user.getId(), user.getUsername(), ((Number) hotelId).longValue(), claims.get("tenantId", String.class));
+    }
 }
@@ -0,0 +1,61 @@
+package com.bookmyhotel.config;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Authenticated user built from a verified access token's claims, without a database lookup.
+ * Holds no credentials and is immutable, so it is safe to share between requests.
+ */
+public final class JwtPrincipal implements UserDetails {
+    
+    private final Long id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    
+    public JwtPrincipal(Long id, String username, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+    }
+    
+    /**
+     * Principal for the token's subject, or null if the token lacks the user id or roles claims
+     */
+    public static JwtPrincipal fromClaims(Claims claims) {
+        Object userId = claims.get("userId");
+        Object roles = claims.get("roles");
+        if (claims.getSubject() == null || !(userId instanceof Number) || !(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = roleNames.stream()
+            .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+            .toList();
+        return new JwtPrincipal(((Number) userId).longValue(), claims.getSubject(), authorities);
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    @Override
+    public String getUsername() {
+        return username;
+    }
+    
+    @Override
+    public String getPassword() {
+        return null;
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
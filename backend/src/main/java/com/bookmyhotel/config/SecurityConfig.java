@@ -16,6 +16,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Security configuration for the BookMyHotel application
  */
@@ -33,11 +35,15 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches resume a request that was already authorized (streamed responses)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints - no authentication required
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/hotels/**").permitAll()
                 .requestMatchers("/api/bookings/webhook/**").permitAll()
                 .requestMatchers("/api/bookings").permitAll() // Allow guest bookings
+                .requestMatchers("/api/bookings/group").permitAll() // Allow guest group bookings
+                .requestMatchers("/api/waitlist/**").permitAll() // Guest waitlist; entries require their access token
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
@@ -50,6 +56,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/admin/hotel-registrations/**").hasRole("ADMIN")
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/hotel-admin/**").hasRole("HOTEL_ADMIN")
+                .requestMatchers("/api/front-desk/**").hasAnyRole("FRONTDESK", "HOTEL_ADMIN")
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
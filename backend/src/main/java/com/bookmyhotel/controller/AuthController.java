@@ -1,19 +1,26 @@
 package com.bookmyhotel.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bookmyhotel.dto.auth.ClaimAccountRequest;
+import com.bookmyhotel.dto.auth.ClaimStartRequest;
 import com.bookmyhotel.dto.auth.LoginRequest;
 import com.bookmyhotel.dto.auth.LoginResponse;
+import com.bookmyhotel.dto.auth.RefreshTokenRequest;
+import com.bookmyhotel.exception.TooManyRequestsException;
 import com.bookmyhotel.service.AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 /**
@@ -31,16 +38,69 @@ public class AuthController {
      * User login endpoint
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
-            LoginResponse response = authService.login(loginRequest);
+            LoginResponse response = authService.login(loginRequest, request.getRemoteAddr());
             return ResponseEntity.ok(response);
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Invalid email or password");
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Login failed: " + e.getMessage());
         }
     }
+    
+    /**
+     * Email a claim token to a guest account created during booking
+     */
+    @PostMapping("/claim/start")
+    public ResponseEntity<Void> startClaim(@Valid @RequestBody ClaimStartRequest startRequest, HttpServletRequest request) {
+        authService.startGuestAccountClaim(startRequest, request.getRemoteAddr());
+        return ResponseEntity.accepted().build();
+    }
+    
+    /**
+     * Claim a guest account created during booking by setting a password
+     */
+    @PostMapping("/claim")
+    public ResponseEntity<?> claimAccount(@Valid @RequestBody ClaimAccountRequest claimRequest, HttpServletRequest request) {
+        try {
+            LoginResponse response = authService.claimGuestAccount(claimRequest, request.getRemoteAddr());
+            return ResponseEntity.ok(response);
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(e.getMessage());
+        }
+    }
+    
+    /**
+     * Exchange a refresh token for a new access token and refresh token
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            LoginResponse response = authService.refresh(refreshRequest.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(e.getMessage());
+        }
+    }
+    
+    /**
+     * Log out: revoke the refresh token's login and the current access token
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenRequest logoutRequest,
+                                       @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        String accessToken = authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                ? authorizationHeader.substring(7) : null;
+        authService.logout(logoutRequest != null ? logoutRequest.getRefreshToken() : null, accessToken);
+        return ResponseEntity.noContent().build();
+    }
 }
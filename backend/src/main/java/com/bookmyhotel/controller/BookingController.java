@@ -5,18 +5,28 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bookmyhotel.config.JwtPrincipal;
+import com.bookmyhotel.dto.BookingDateChangeRequest;
 import com.bookmyhotel.dto.BookingRequest;
 import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.CursorPage;
+import com.bookmyhotel.dto.GroupBookingRequest;
+import com.bookmyhotel.dto.GroupBookingResponse;
+import com.bookmyhotel.service.BookingDateChangeService;
 import com.bookmyhotel.service.BookingService;
+import com.bookmyhotel.service.GroupBookingService;
 
 import jakarta.validation.Valid;
 
@@ -31,6 +41,12 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
     
+    @Autowired
+    private BookingDateChangeService bookingDateChangeService;
+    
+    @Autowired
+    private GroupBookingService groupBookingService;
+    
     /**
      * Create a new booking
      */
@@ -40,6 +56,15 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Create several bookings in one atomic request
+     */
+    @PostMapping("/group")
+    public ResponseEntity<GroupBookingResponse> createGroupBooking(@Valid @RequestBody GroupBookingRequest request) {
+        GroupBookingResponse response = groupBookingService.createGroupBooking(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
     /**
      * Get booking details
      */
@@ -49,6 +74,15 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get booking details by confirmation number
+     */
+    @GetMapping("/confirmation/{confirmationNumber}")
+    public ResponseEntity<BookingResponse> getBookingByConfirmationNumber(@PathVariable String confirmationNumber) {
+        BookingResponse response = bookingService.getBookingByConfirmationNumber(confirmationNumber);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Cancel a booking
      */
@@ -58,6 +92,17 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Move a booking to new dates
+     */
+    @PutMapping("/{reservationId}/dates")
+    public ResponseEntity<BookingResponse> changeBookingDates(@PathVariable Long reservationId,
+                                                              @Valid @RequestBody BookingDateChangeRequest request,
+                                                              @AuthenticationPrincipal JwtPrincipal caller) {
+        BookingResponse response = bookingDateChangeService.changeBookingDates(reservationId, request, caller.getId());
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Get user bookings
      */
@@ -66,4 +111,16 @@ public class BookingController {
         List<BookingResponse> bookings = bookingService.getUserBookings(userId);
         return ResponseEntity.ok(bookings);
     }
+    
+    /**
+     * Get user booking history one page at a time
+     */
+    @GetMapping("/user/{userId}/history")
+    public ResponseEntity<CursorPage<BookingResponse>> getUserBookingHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<BookingResponse> history = bookingService.getUserBookingHistory(userId, cursor, size);
+        return ResponseEntity.ok(history);
+    }
 }
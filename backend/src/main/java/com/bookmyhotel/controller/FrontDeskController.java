@@ -0,0 +1,32 @@
+package com.bookmyhotel.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bookmyhotel.service.FrontDeskBoardService;
+
+/**
+ * REST Controller for front-desk operations
+ */
+@RestController
+@RequestMapping("/api/front-desk")
+@PreAuthorize("hasAnyRole('FRONTDESK', 'HOTEL_ADMIN')")
+public class FrontDeskController {
+
+    @Autowired
+    private FrontDeskBoardService frontDeskBoardService;
+
+    /**
+     * Today's arrivals and departures as a snapshot event followed by delta events
+     */
+    @GetMapping(value = "/board", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoard(Authentication auth) {
+        return frontDeskBoardService.subscribe(auth.getName());
+    }
+}
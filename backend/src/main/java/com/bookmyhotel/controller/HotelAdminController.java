@@ -1,9 +1,16 @@
 package com.bookmyhotel.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -16,13 +23,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.CursorPage;
 import com.bookmyhotel.dto.HotelDTO;
+import com.bookmyhotel.dto.OccupancyReportDTO;
+import com.bookmyhotel.dto.RateRuleDTO;
+import com.bookmyhotel.dto.RoomBulkUpdateRequest;
 import com.bookmyhotel.dto.RoomDTO;
+import com.bookmyhotel.dto.RoomImportResult;
 import com.bookmyhotel.dto.UserDTO;
 import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.service.AnalyticsService;
+import com.bookmyhotel.service.BookingExportService;
 import com.bookmyhotel.service.HotelAdminService;
+import com.bookmyhotel.service.PricingService;
 
 import jakarta.validation.Valid;
 
@@ -37,6 +55,15 @@ public class HotelAdminController {
     @Autowired
     private HotelAdminService hotelAdminService;
 
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private BookingExportService bookingExportService;
+
     // Hotel Management
     @GetMapping("/hotel")
     public ResponseEntity<HotelDTO> getMyHotel(Authentication auth) {
@@ -56,8 +83,10 @@ public class HotelAdminController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "lastName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
             Authentication auth) {
-        Page<UserDTO> staff = hotelAdminService.getHotelStaff(auth.getName(), page, size, search, role);
+        Page<UserDTO> staff = hotelAdminService.getHotelStaff(auth.getName(), page, size, search, role, sortBy, sortDir);
         return ResponseEntity.ok(staff);
     }
 
@@ -113,12 +142,40 @@ public class HotelAdminController {
         return ResponseEntity.ok(rooms);
     }
 
+    // Infinite scroll variant: no total count, just whether another page exists
+    @GetMapping("/rooms/scroll")
+    public ResponseEntity<Slice<RoomDTO>> scrollHotelRooms(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) Boolean available,
+            Authentication auth) {
+        Slice<RoomDTO> rooms = hotelAdminService.getHotelRoomsSlice(auth.getName(), page, size, search, roomType, available);
+        return ResponseEntity.ok(rooms);
+    }
+
     @PostMapping("/rooms")
     public ResponseEntity<RoomDTO> addRoom(@Valid @RequestBody RoomDTO roomDTO, Authentication auth) {
         RoomDTO newRoom = hotelAdminService.addRoom(roomDTO, auth.getName());
         return ResponseEntity.ok(newRoom);
     }
 
+    @PostMapping(value = "/rooms/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<RoomImportResult> importRooms(@RequestParam("file") MultipartFile file, Authentication auth)
+            throws IOException {
+        RoomImportResult result = hotelAdminService.importRooms(file.getInputStream(), auth.getName());
+        return ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/rooms/bulk")
+    public ResponseEntity<Map<String, Object>> bulkUpdateRooms(
+            @Valid @RequestBody RoomBulkUpdateRequest request,
+            Authentication auth) {
+        int updated = hotelAdminService.bulkUpdateRooms(request, auth.getName());
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
     @GetMapping("/rooms/{roomId}")
     public ResponseEntity<RoomDTO> getRoomById(@PathVariable Long roomId, Authentication auth) {
         RoomDTO room = hotelAdminService.getRoomById(roomId, auth.getName());
@@ -149,6 +206,27 @@ public class HotelAdminController {
         return ResponseEntity.ok(updated);
     }
 
+    // Rate Management
+    @GetMapping("/rates")
+    public ResponseEntity<List<RateRuleDTO>> getRateRules(Authentication auth) {
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        return ResponseEntity.ok(pricingService.getRateRules(hotelId));
+    }
+
+    @PostMapping("/rates")
+    public ResponseEntity<RateRuleDTO> addRateRule(@Valid @RequestBody RateRuleDTO ruleDTO, Authentication auth) {
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        RateRuleDTO created = pricingService.addRateRule(hotelId, ruleDTO);
+        return ResponseEntity.ok(created);
+    }
+
+    @DeleteMapping("/rates/{ruleId}")
+    public ResponseEntity<Void> deleteRateRule(@PathVariable Long ruleId, Authentication auth) {
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        pricingService.deleteRateRule(hotelId, ruleId);
+        return ResponseEntity.noContent().build();
+    }
+
     // Statistics for hotel admin dashboard
     @GetMapping("/statistics")
     public ResponseEntity<?> getHotelStatistics(Authentication auth) {
@@ -170,11 +248,57 @@ public class HotelAdminController {
             Authentication auth) {
         
         // First get the hotel ID from the authenticated user
-        HotelDTO hotel = hotelAdminService.getMyHotel(auth.getName());
-        Page<BookingResponse> bookings = hotelAdminService.getHotelBookings(hotel.getId(), page, size, search);
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        Page<BookingResponse> bookings = hotelAdminService.getHotelBookings(hotelId, page, size, search);
+        return ResponseEntity.ok(bookings);
+    }
+
+    /**
+     * Occupancy rate, ADR and RevPAR for nights in [from, to)
+     */
+    @GetMapping("/analytics/occupancy")
+    public ResponseEntity<OccupancyReportDTO> getOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RoomType roomType,
+            Authentication auth) {
+        
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        return ResponseEntity.ok(analyticsService.getOccupancy(hotelId, roomType, from, to));
+    }
+
+    /**
+     * Get the hotel's bookings one keyset page at a time
+     */
+    @GetMapping("/bookings/feed")
+    public ResponseEntity<CursorPage<BookingResponse>> getHotelBookingFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String search,
+            Authentication auth) {
+        
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        CursorPage<BookingResponse> bookings = hotelAdminService.getHotelBookingFeed(hotelId, cursor, size, search);
         return ResponseEntity.ok(bookings);
     }
 
+    /**
+     * Stream the hotel's bookings with check-in in [from, to) as CSV
+     */
+    @GetMapping(value = "/bookings/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportHotelBookings(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication auth) {
+        
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        StreamingResponseBody body = out -> bookingExportService.exportBookings(hotelId, from, to, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings-" + hotelId + ".csv\"")
+            .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+            .body(body);
+    }
+
     /**
      * Get a specific booking by reservation ID
      */
@@ -184,8 +308,8 @@ public class HotelAdminController {
             Authentication auth) {
         
         // First get the hotel ID from the authenticated user
-        HotelDTO hotel = hotelAdminService.getMyHotel(auth.getName());
-        BookingResponse booking = hotelAdminService.getBookingById(reservationId, hotel.getId());
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        BookingResponse booking = hotelAdminService.getBookingById(reservationId, hotelId);
         return ResponseEntity.ok(booking);
     }
 
@@ -194,8 +318,8 @@ public class HotelAdminController {
      */
     @GetMapping("/bookings/statistics")
     public ResponseEntity<Map<String, Object>> getHotelBookingStats(Authentication auth) {
-        HotelDTO hotel = hotelAdminService.getMyHotel(auth.getName());
-        Map<String, Object> stats = hotelAdminService.getHotelBookingStats(hotel.getId());
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        Map<String, Object> stats = hotelAdminService.getHotelBookingStats(hotelId);
         return ResponseEntity.ok(stats);
     }
 
@@ -209,8 +333,22 @@ public class HotelAdminController {
             Authentication auth) {
         
         // Verify the reservation belongs to the hotel admin's hotel
-        HotelDTO hotel = hotelAdminService.getMyHotel(auth.getName());
-        BookingResponse updated = hotelAdminService.updateBookingStatus(reservationId, status);
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        BookingResponse updated = hotelAdminService.updateBookingStatus(reservationId, status, hotelId);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * Assign a specific room to a booking
+     */
+    @PutMapping("/bookings/{reservationId}/room")
+    public ResponseEntity<BookingResponse> assignBookingRoom(
+            @PathVariable Long reservationId,
+            @RequestParam Long roomId,
+            Authentication auth) {
+        
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        BookingResponse updated = hotelAdminService.assignBookingRoom(reservationId, roomId, hotelId);
         return ResponseEntity.ok(updated);
     }
 
@@ -223,8 +361,8 @@ public class HotelAdminController {
             Authentication auth) {
         
         // Get the hotel ID from the authenticated user
-        HotelDTO hotel = hotelAdminService.getMyHotel(auth.getName());
-        hotelAdminService.deleteBooking(reservationId, hotel.getId());
+        Long hotelId = hotelAdminService.getAdminHotelId(auth.getName());
+        hotelAdminService.deleteBooking(reservationId, hotelId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,73 @@
+package com.bookmyhotel.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bookmyhotel.dto.WaitlistRequest;
+import com.bookmyhotel.dto.WaitlistResponse;
+import com.bookmyhotel.service.WaitlistService;
+
+import jakarta.validation.Valid;
+
+/**
+ * Waitlist controller for sold-out dates.
+ * Requests about an entry must carry the access token returned at join in the X-Waitlist-Token header.
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+@CrossOrigin(origins = "*")
+public class WaitlistController {
+    
+    private static final String TOKEN_HEADER = "X-Waitlist-Token";
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    /**
+     * Join the waitlist
+     */
+    @PostMapping
+    public ResponseEntity<WaitlistResponse> join(@Valid @RequestBody WaitlistRequest request) {
+        WaitlistResponse response = waitlistService.join(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    /**
+     * Get a waitlist entry and its current offer
+     */
+    @GetMapping("/{entryId}")
+    public ResponseEntity<WaitlistResponse> getEntry(@PathVariable Long entryId,
+                                                     @RequestHeader(TOKEN_HEADER) String accessToken) {
+        return ResponseEntity.ok(waitlistService.getEntry(entryId, accessToken));
+    }
+    
+    /**
+     * Accept and pay for the held offer
+     */
+    @PostMapping("/{entryId}/accept")
+    public ResponseEntity<WaitlistResponse> accept(@PathVariable Long entryId,
+                                                   @RequestHeader(TOKEN_HEADER) String accessToken,
+                                                   @RequestParam String paymentMethodId) {
+        return ResponseEntity.ok(waitlistService.accept(entryId, accessToken, paymentMethodId));
+    }
+    
+    /**
+     * Leave the waitlist
+     */
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<WaitlistResponse> cancel(@PathVariable Long entryId,
+                                                   @RequestHeader(TOKEN_HEADER) String accessToken) {
+        return ResponseEntity.ok(waitlistService.cancel(entryId, accessToken));
+    }
+}
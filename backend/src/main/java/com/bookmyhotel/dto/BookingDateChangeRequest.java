@@ -0,0 +1,50 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request to move an existing booking to new dates
+ */
+public class BookingDateChangeRequest {
+    
+    @NotNull(message = "Check-in date is required")
+    private LocalDate checkInDate;
+    
+    @NotNull(message = "Check-out date is required")
+    @Future(message = "Check-out date must be in the future")
+    private LocalDate checkOutDate;
+    
+    // Required when a paid booking becomes more expensive
+    private String paymentMethodId;
+    
+    // Constructors
+    public BookingDateChangeRequest() {}
+    
+    // Getters and Setters
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public String getPaymentMethodId() {
+        return paymentMethodId;
+    }
+    
+    public void setPaymentMethodId(String paymentMethodId) {
+        this.paymentMethodId = paymentMethodId;
+    }
+}
@@ -2,6 +2,8 @@ package com.bookmyhotel.dto;
 
 import java.time.LocalDate;
 
+import com.bookmyhotel.entity.RoomType;
+
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -11,9 +13,13 @@ import jakarta.validation.constraints.Positive;
  */
 public class BookingRequest {
     
-    @NotNull(message = "Room ID is required")
+    // Either a specific room, or a hotel and room type with the room assigned later
     private Long roomId;
     
+    private Long hotelId;
+    
+    private RoomType roomType;
+    
     @NotNull(message = "Check-in date is required")
     private LocalDate checkInDate;
     
@@ -57,6 +63,22 @@ public class BookingRequest {
         this.roomId = roomId;
     }
     
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
     public LocalDate getCheckInDate() {
         return checkInDate;
     }
@@ -0,0 +1,48 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Today's front-desk board: expected and completed arrivals and departures
+ */
+public class FrontDeskBoardDTO {
+    
+    private LocalDate date;
+    private List<FrontDeskBoardEntry> arrivals;
+    private List<FrontDeskBoardEntry> departures;
+    
+    // Constructors
+    public FrontDeskBoardDTO() {}
+    
+    public FrontDeskBoardDTO(LocalDate date, List<FrontDeskBoardEntry> arrivals, List<FrontDeskBoardEntry> departures) {
+        this.date = date;
+        this.arrivals = arrivals;
+        this.departures = departures;
+    }
+    
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+    
+    public List<FrontDeskBoardEntry> getArrivals() {
+        return arrivals;
+    }
+    
+    public void setArrivals(List<FrontDeskBoardEntry> arrivals) {
+        this.arrivals = arrivals;
+    }
+    
+    public List<FrontDeskBoardEntry> getDepartures() {
+        return departures;
+    }
+    
+    public void setDepartures(List<FrontDeskBoardEntry> departures) {
+        this.departures = departures;
+    }
+}
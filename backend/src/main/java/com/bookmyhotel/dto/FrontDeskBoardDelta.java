@@ -0,0 +1,47 @@
+package com.bookmyhotel.dto;
+
+/**
+ * Change to one reservation on the front-desk board.
+ * Clients replace the reservation's rows with the given entries; a null entry
+ * removes the reservation from that list.
+ */
+public class FrontDeskBoardDelta {
+    
+    private Long reservationId;
+    private FrontDeskBoardEntry arrival;
+    private FrontDeskBoardEntry departure;
+    
+    // Constructors
+    public FrontDeskBoardDelta() {}
+    
+    public FrontDeskBoardDelta(Long reservationId, FrontDeskBoardEntry arrival, FrontDeskBoardEntry departure) {
+        this.reservationId = reservationId;
+        this.arrival = arrival;
+        this.departure = departure;
+    }
+    
+    // Getters and Setters
+    public Long getReservationId() {
+        return reservationId;
+    }
+    
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+    
+    public FrontDeskBoardEntry getArrival() {
+        return arrival;
+    }
+    
+    public void setArrival(FrontDeskBoardEntry arrival) {
+        this.arrival = arrival;
+    }
+    
+    public FrontDeskBoardEntry getDeparture() {
+        return departure;
+    }
+    
+    public void setDeparture(FrontDeskBoardEntry departure) {
+        this.departure = departure;
+    }
+}
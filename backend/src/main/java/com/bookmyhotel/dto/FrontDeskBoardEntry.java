@@ -0,0 +1,89 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.RoomType;
+
+/**
+ * One reservation on the front-desk arrivals or departures board
+ */
+public class FrontDeskBoardEntry {
+    
+    private Long reservationId;
+    private String confirmationNumber;
+    private String guestName;
+    private RoomType roomType;
+    private String roomNumber;
+    private ReservationStatus status;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    
+    // Constructors
+    public FrontDeskBoardEntry() {}
+    
+    // Getters and Setters
+    public Long getReservationId() {
+        return reservationId;
+    }
+    
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+    
+    public String getConfirmationNumber() {
+        return confirmationNumber;
+    }
+    
+    public void setConfirmationNumber(String confirmationNumber) {
+        this.confirmationNumber = confirmationNumber;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+}
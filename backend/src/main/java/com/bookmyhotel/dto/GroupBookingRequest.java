@@ -0,0 +1,150 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Group booking request DTO: several rooms booked atomically for one guest
+ */
+public class GroupBookingRequest {
+    
+    @NotEmpty(message = "At least one booking item is required")
+    @Size(max = 100, message = "A group booking cannot contain more than 100 items")
+    @Valid
+    private List<Item> items;
+    
+    private String specialRequests;
+    
+    // Payment information
+    private String paymentMethodId; // Stripe payment method ID, charged once for the whole group
+    
+    // Guest information
+    @NotNull(message = "Guest name is required")
+    private String guestName;
+    
+    @NotNull(message = "Guest email is required")
+    private String guestEmail;
+    
+    private String guestPhone;
+    
+    // Constructors
+    public GroupBookingRequest() {}
+    
+    // Getters and Setters
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+    
+    public void setSpecialRequests(String specialRequests) {
+        this.specialRequests = specialRequests;
+    }
+    
+    public String getPaymentMethodId() {
+        return paymentMethodId;
+    }
+    
+    public void setPaymentMethodId(String paymentMethodId) {
+        this.paymentMethodId = paymentMethodId;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+    
+    public void setGuestEmail(String guestEmail) {
+        this.guestEmail = guestEmail;
+    }
+    
+    public String getGuestPhone() {
+        return guestPhone;
+    }
+    
+    public void setGuestPhone(String guestPhone) {
+        this.guestPhone = guestPhone;
+    }
+    
+    /**
+     * One room and stay within a group booking
+     */
+    public static class Item {
+        
+        @NotNull(message = "Room ID is required")
+        private Long roomId;
+        
+        @NotNull(message = "Check-in date is required")
+        private LocalDate checkInDate;
+        
+        @NotNull(message = "Check-out date is required")
+        @Future(message = "Check-out date must be in the future")
+        private LocalDate checkOutDate;
+        
+        @Positive(message = "Number of guests must be positive")
+        private Integer guests;
+        
+        // Constructors
+        public Item() {}
+        
+        public Item(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, Integer guests) {
+            this.roomId = roomId;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+            this.guests = guests;
+        }
+        
+        // Getters and Setters
+        public Long getRoomId() {
+            return roomId;
+        }
+        
+        public void setRoomId(Long roomId) {
+            this.roomId = roomId;
+        }
+        
+        public LocalDate getCheckInDate() {
+            return checkInDate;
+        }
+        
+        public void setCheckInDate(LocalDate checkInDate) {
+            this.checkInDate = checkInDate;
+        }
+        
+        public LocalDate getCheckOutDate() {
+            return checkOutDate;
+        }
+        
+        public void setCheckOutDate(LocalDate checkOutDate) {
+            this.checkOutDate = checkOutDate;
+        }
+        
+        public Integer getGuests() {
+            return guests;
+        }
+        
+        public void setGuests(Integer guests) {
+            this.guests = guests;
+        }
+    }
+}
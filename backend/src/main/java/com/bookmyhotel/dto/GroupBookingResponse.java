@@ -0,0 +1,66 @@
+package com.bookmyhotel.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Group booking response DTO
+ */
+public class GroupBookingResponse {
+    
+    private String status;
+    private BigDecimal totalAmount;
+    private String paymentStatus;
+    private String paymentIntentId;
+    private List<BookingResponse> bookings;
+    
+    // Constructors
+    public GroupBookingResponse() {}
+    
+    public GroupBookingResponse(String status, BigDecimal totalAmount, List<BookingResponse> bookings) {
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.bookings = bookings;
+    }
+    
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+    
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+    
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+    
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+    
+    public String getPaymentIntentId() {
+        return paymentIntentId;
+    }
+    
+    public void setPaymentIntentId(String paymentIntentId) {
+        this.paymentIntentId = paymentIntentId;
+    }
+    
+    public List<BookingResponse> getBookings() {
+        return bookings;
+    }
+    
+    public void setBookings(List<BookingResponse> bookings) {
+        this.bookings = bookings;
+    }
+}
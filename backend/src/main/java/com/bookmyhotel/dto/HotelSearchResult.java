@@ -128,6 +128,7 @@ public class HotelSearchResult {
         private String roomNumber;
         private String roomType;
         private BigDecimal pricePerNight;
+        private BigDecimal totalPrice;
         private Integer capacity;
         private String description;
         
@@ -175,6 +176,14 @@ public class HotelSearchResult {
             this.pricePerNight = pricePerNight;
         }
         
+        public BigDecimal getTotalPrice() {
+            return totalPrice;
+        }
+        
+        public void setTotalPrice(BigDecimal totalPrice) {
+            this.totalPrice = totalPrice;
+        }
+        
         public Integer getCapacity() {
             return capacity;
         }
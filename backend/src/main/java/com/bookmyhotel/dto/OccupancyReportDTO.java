@@ -0,0 +1,107 @@
+package com.bookmyhotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.bookmyhotel.entity.RoomType;
+
+/**
+ * Occupancy and revenue KPIs for a hotel over a date range
+ */
+public class OccupancyReportDTO {
+    
+    private Long hotelId;
+    private RoomType roomType; // null for all room types
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private long roomNightsAvailable;
+    private long roomNightsSold;
+    private BigDecimal revenue;
+    private BigDecimal occupancyRate;
+    private BigDecimal adr;
+    private BigDecimal revpar;
+    
+    // Constructors
+    public OccupancyReportDTO() {}
+    
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+    
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+    
+    public LocalDate getToDate() {
+        return toDate;
+    }
+    
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+    
+    public long getRoomNightsAvailable() {
+        return roomNightsAvailable;
+    }
+    
+    public void setRoomNightsAvailable(long roomNightsAvailable) {
+        this.roomNightsAvailable = roomNightsAvailable;
+    }
+    
+    public long getRoomNightsSold() {
+        return roomNightsSold;
+    }
+    
+    public void setRoomNightsSold(long roomNightsSold) {
+        this.roomNightsSold = roomNightsSold;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+    
+    public BigDecimal getOccupancyRate() {
+        return occupancyRate;
+    }
+    
+    public void setOccupancyRate(BigDecimal occupancyRate) {
+        this.occupancyRate = occupancyRate;
+    }
+    
+    public BigDecimal getAdr() {
+        return adr;
+    }
+    
+    public void setAdr(BigDecimal adr) {
+        this.adr = adr;
+    }
+    
+    public BigDecimal getRevpar() {
+        return revpar;
+    }
+    
+    public void setRevpar(BigDecimal revpar) {
+        this.revpar = revpar;
+    }
+}
@@ -0,0 +1,93 @@
+package com.bookmyhotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.bookmyhotel.entity.RateRuleType;
+import com.bookmyhotel.entity.RoomType;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO for hotel rate rules
+ */
+public class RateRuleDTO {
+    
+    private Long id;
+    
+    // Null applies the rule to every room type
+    private RoomType roomType;
+    
+    @NotNull(message = "Rule type is required")
+    private RateRuleType ruleType;
+    
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+    
+    @Positive(message = "Minimum nights must be positive")
+    private Integer minNights;
+    
+    // Constructors
+    public RateRuleDTO() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public RateRuleType getRuleType() {
+        return ruleType;
+    }
+    
+    public void setRuleType(RateRuleType ruleType) {
+        this.ruleType = ruleType;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public BigDecimal getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+    
+    public Integer getMinNights() {
+        return minNights;
+    }
+    
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookmyhotel.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.bookmyhotel.entity.RoomType;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request to change many rooms of a hotel at once.
+ * Rooms are selected by any combination of ids, room type and room number
+ * prefix (e.g. "3" for the third floor); only the non-null changes are applied.
+ */
+public class RoomBulkUpdateRequest {
+    
+    // Selection
+    private List<Long> roomIds;
+    
+    private RoomType roomType;
+    
+    @Size(max = 20, message = "Room number prefix must not exceed 20 characters")
+    private String roomNumberPrefix;
+    
+    // Changes
+    @DecimalMin(value = "0.01", message = "Price must be greater than 0")
+    private BigDecimal pricePerNight;
+    
+    @DecimalMin(value = "-99.99", message = "Price change must be greater than -100%")
+    private BigDecimal priceChangePercent;
+    
+    private Boolean isAvailable;
+    
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+    
+    // Constructors
+    public RoomBulkUpdateRequest() {}
+    
+    // Getters and Setters
+    public List<Long> getRoomIds() {
+        return roomIds;
+    }
+    
+    public void setRoomIds(List<Long> roomIds) {
+        this.roomIds = roomIds;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public String getRoomNumberPrefix() {
+        return roomNumberPrefix;
+    }
+    
+    public void setRoomNumberPrefix(String roomNumberPrefix) {
+        this.roomNumberPrefix = roomNumberPrefix;
+    }
+    
+    public BigDecimal getPricePerNight() {
+        return pricePerNight;
+    }
+    
+    public void setPricePerNight(BigDecimal pricePerNight) {
+        this.pricePerNight = pricePerNight;
+    }
+    
+    public BigDecimal getPriceChangePercent() {
+        return priceChangePercent;
+    }
+    
+    public void setPriceChangePercent(BigDecimal priceChangePercent) {
+        this.priceChangePercent = priceChangePercent;
+    }
+    
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+    
+    public void setIsAvailable(Boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
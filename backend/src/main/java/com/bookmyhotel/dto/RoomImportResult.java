@@ -0,0 +1,73 @@
+package com.bookmyhotel.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a CSV room import: rows imported and the lines rejected
+ */
+public class RoomImportResult {
+    
+    private int imported;
+    private List<LineError> errors = new ArrayList<>();
+    
+    // Constructors
+    public RoomImportResult() {}
+    
+    public void addError(long line, String message) {
+        errors.add(new LineError(line, message));
+    }
+    
+    // Getters and Setters
+    public int getImported() {
+        return imported;
+    }
+    
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+    
+    public int getFailed() {
+        return errors.size();
+    }
+    
+    public List<LineError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<LineError> errors) {
+        this.errors = errors;
+    }
+    
+    /**
+     * A rejected line and why
+     */
+    public static class LineError {
+        
+        private long line;
+        private String message;
+        
+        public LineError() {}
+        
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+        
+        public long getLine() {
+            return line;
+        }
+        
+        public void setLine(long line) {
+            this.line = line;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+
+import com.bookmyhotel.entity.RoomType;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request to join the waitlist for a sold-out room type
+ */
+public class WaitlistRequest {
+    
+    @NotNull(message = "Hotel ID is required")
+    private Long hotelId;
+    
+    @NotNull(message = "Room type is required")
+    private RoomType roomType;
+    
+    @NotNull(message = "Check-in date is required")
+    private LocalDate checkInDate;
+    
+    @NotNull(message = "Check-out date is required")
+    @Future(message = "Check-out date must be in the future")
+    private LocalDate checkOutDate;
+    
+    @NotNull(message = "Number of guests is required")
+    @Positive(message = "Number of guests must be positive")
+    private Integer guests;
+    
+    @NotBlank(message = "Guest name is required")
+    private String guestName;
+    
+    @NotBlank(message = "Guest email is required")
+    @Email(message = "Guest email must be valid")
+    private String guestEmail;
+    
+    private String guestPhone;
+    
+    // Constructors
+    public WaitlistRequest() {}
+    
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public Integer getGuests() {
+        return guests;
+    }
+    
+    public void setGuests(Integer guests) {
+        this.guests = guests;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+    
+    public void setGuestEmail(String guestEmail) {
+        this.guestEmail = guestEmail;
+    }
+    
+    public String getGuestPhone() {
+        return guestPhone;
+    }
+    
+    public void setGuestPhone(String guestPhone) {
+        this.guestPhone = guestPhone;
+    }
+}
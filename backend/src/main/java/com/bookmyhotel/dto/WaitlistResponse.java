@@ -0,0 +1,108 @@
+package com.bookmyhotel.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Waitlist entry as shown to the guest
+ */
+public class WaitlistResponse {
+    
+    private Long id;
+    private Long hotelId;
+    private String roomType;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private String status;
+    private BookingResponse offer;
+    private LocalDateTime offeredAt;
+    private LocalDateTime createdAt;
+    private String accessToken;
+    
+    // Constructors
+    public WaitlistResponse() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public String getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public BookingResponse getOffer() {
+        return offer;
+    }
+    
+    public void setOffer(BookingResponse offer) {
+        this.offer = offer;
+    }
+    
+    public LocalDateTime getOfferedAt() {
+        return offeredAt;
+    }
+    
+    public void setOfferedAt(LocalDateTime offeredAt) {
+        this.offeredAt = offeredAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    /**
+     * Secret for later requests about this entry; only returned when joining
+     */
+    public String getAccessToken() {
+        return accessToken;
+    }
+    
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookmyhotel.dto.auth;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request to email a claim token to a guest account created during booking
+ */
+public class ClaimStartRequest {
+    
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    private String email;
+    
+    // Constructors
+    public ClaimStartRequest() {}
+    
+    public ClaimStartRequest(String email) {
+        this.email = email;
+    }
+    
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -18,6 +18,8 @@ public class LoginResponse {
     private Set<UserRole> roles;
     private Long hotelId;
     private String hotelName;
+    private String refreshToken;
+    private long expiresIn;
     
     // Constructors
     public LoginResponse() {}
@@ -114,4 +116,23 @@ public class LoginResponse {
     public void setHotelName(String hotelName) {
         this.hotelName = hotelName;
     }
+    
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    /**
+     * Seconds until the access token expires
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+    
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
 }
@@ -0,0 +1,28 @@
+package com.bookmyhotel.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request carrying a refresh token, for renewing an access token or logging out
+ */
+public class RefreshTokenRequest {
+    
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+    
+    // Constructors
+    public RefreshTokenRequest() {}
+    
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    // Getters and Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
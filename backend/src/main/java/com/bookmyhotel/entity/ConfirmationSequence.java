@@ -0,0 +1,66 @@
+package com.bookmyhotel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Per-tenant high-water mark for confirmation number blocks
+ */
+@Entity
+@Table(name = "confirmation_sequences")
+public class ConfirmationSequence {
+    
+    @Id
+    @Column(name = "tenant_id", length = 50)
+    private String tenantId;
+    
+    @Column(name = "next_block", nullable = false)
+    private Long nextBlock = 0L;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public ConfirmationSequence() {}
+    
+    public ConfirmationSequence(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    // Getters and Setters
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Long getNextBlock() {
+        return nextBlock;
+    }
+    
+    public void setNextBlock(Long nextBlock) {
+        this.nextBlock = nextBlock;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bookmyhotel.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Booking rollup for one hotel, day and reservation status: reservations
+ * checking in and out that day and the revenue of those checking in
+ */
+@Entity
+@Table(name = "hotel_daily_stats",
+       indexes = {
+           @Index(name = "idx_daily_stats_hotel_date_status", columnList = "hotel_id, stat_date, status", unique = true)
+       })
+public class HotelDailyStats {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+    
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+    
+    @Column(name = "check_ins", nullable = false)
+    private Integer checkIns = 0;
+    
+    @Column(name = "check_outs", nullable = false)
+    private Integer checkOuts = 0;
+    
+    @Column(name = "revenue", nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public HotelDailyStats() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+    
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public Integer getCheckIns() {
+        return checkIns;
+    }
+    
+    public void setCheckIns(Integer checkIns) {
+        this.checkIns = checkIns;
+    }
+    
+    public Integer getCheckOuts() {
+        return checkOuts;
+    }
+    
+    public void setCheckOuts(Integer checkOuts) {
+        this.checkOuts = checkOuts;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.bookmyhotel.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Pricing rule for a hotel, optionally limited to one room type.
+ * Date ranges are inclusive stay nights; an open end applies indefinitely.
+ */
+@Entity
+@Table(name = "rate_rules",
+       indexes = {
+           @Index(name = "idx_rate_rule_hotel", columnList = "hotel_id, room_type")
+       })
+public class RateRule extends TenantEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id", nullable = false)
+    private Hotel hotel;
+    
+    // Null applies the rule to every room type
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", length = 20)
+    private RoomType roomType;
+    
+    @NotNull(message = "Rule type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 30)
+    private RateRuleType ruleType;
+    
+    @Column(name = "start_date")
+    private LocalDate startDate;
+    
+    @Column(name = "end_date")
+    private LocalDate endDate;
+    
+    // Nightly price for NIGHTLY_RATE, percentage for the other rule types
+    @NotNull(message = "Amount is required")
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+    
+    @Column(name = "min_nights")
+    private Integer minNights;
+    
+    // Constructors
+    public RateRule() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Hotel getHotel() {
+        return hotel;
+    }
+    
+    public void setHotel(Hotel hotel) {
+        this.hotel = hotel;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public RateRuleType getRuleType() {
+        return ruleType;
+    }
+    
+    public void setRuleType(RateRuleType ruleType) {
+        this.ruleType = ruleType;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public BigDecimal getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+    
+    public Integer getMinNights() {
+        return minNights;
+    }
+    
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+}
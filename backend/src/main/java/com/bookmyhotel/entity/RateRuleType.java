@@ -0,0 +1,10 @@
+package com.bookmyhotel.entity;
+
+/**
+ * Kinds of pricing rule a hotel can define for its room types
+ */
+public enum RateRuleType {
+    NIGHTLY_RATE,             // Fixed price per night for the dates
+    SEASONAL_ADJUSTMENT,      // Percentage up or down on the base price for the dates
+    LENGTH_OF_STAY_DISCOUNT   // Percentage off the whole stay from a minimum number of nights
+}
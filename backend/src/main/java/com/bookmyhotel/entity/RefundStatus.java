@@ -0,0 +1,11 @@
+package com.bookmyhotel.entity;
+
+/**
+ * Refund job status enumeration
+ */
+public enum RefundStatus {
+    PENDING,
+    IN_PROGRESS,
+    SUCCEEDED,
+    FAILED
+}
@@ -2,6 +2,7 @@ package com.bookmyhotel.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -28,8 +29,13 @@ import jakarta.validation.constraints.Positive;
            @Index(name = "idx_reservation_tenant", columnList = "tenant_id"),
            @Index(name = "idx_reservation_room", columnList = "room_id"),
            @Index(name = "idx_reservation_guest", columnList = "guest_id"),
+           @Index(name = "idx_reservation_guest_created", columnList = "guest_id, created_at, id"),
            @Index(name = "idx_reservation_dates", columnList = "check_in_date, check_out_date"),
-           @Index(name = "idx_reservation_status", columnList = "status")
+           @Index(name = "idx_reservation_status", columnList = "status"),
+           @Index(name = "idx_reservation_confirmation", columnList = "confirmation_number, tenant_id", unique = true),
+           @Index(name = "idx_reservation_hotel_checkin", columnList = "hotel_id, check_in_date"),
+           @Index(name = "idx_reservation_hotel_checkout", columnList = "hotel_id, check_out_date"),
+           @Index(name = "idx_reservation_hotel_type", columnList = "hotel_id, room_type, check_in_date")
        })
 public class Reservation extends TenantEntity {
     
@@ -37,6 +43,9 @@ public class Reservation extends TenantEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @Column(name = "confirmation_number", nullable = false, length = 20)
+    private String confirmationNumber;
+    
     @NotNull(message = "Check-in date is required")
     @Column(name = "check_in_date", nullable = false)
     private LocalDate checkInDate;
@@ -62,8 +71,22 @@ public class Reservation extends TenantEntity {
     @Column(name = "payment_intent_id", length = 100)
     private String paymentIntentId;
     
+    // Set on PENDING holds waiting for payment; the hold is cancelled if still unpaid by then
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+    
+    @NotNull(message = "Room type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private RoomType roomType;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id", nullable = false)
+    private Hotel hotel;
+    
+    // Null until a concrete room is assigned for room-type bookings
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "room_id", nullable = false)
+    @JoinColumn(name = "room_id")
     private Room room;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -88,6 +111,14 @@ public class Reservation extends TenantEntity {
         this.id = id;
     }
     
+    public String getConfirmationNumber() {
+        return confirmationNumber;
+    }
+    
+    public void setConfirmationNumber(String confirmationNumber) {
+        this.confirmationNumber = confirmationNumber;
+    }
+    
     public LocalDate getCheckInDate() {
         return checkInDate;
     }
@@ -136,12 +167,47 @@ public class Reservation extends TenantEntity {
         this.paymentIntentId = paymentIntentId;
     }
     
+    public LocalDateTime getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+    
+    public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public Hotel getHotel() {
+        return hotel;
+    }
+    
+    public void setHotel(Hotel hotel) {
+        this.hotel = hotel;
+    }
+    
     public Room getRoom() {
         return room;
     }
     
+    /**
+     * Assign a concrete room; also records its hotel and type
+     */
     public void setRoom(Room room) {
         this.room = room;
+        if (room != null) {
+            this.hotel = room.getHotel();
+            this.roomType = room.getRoomType();
+        }
+    }
+    
+    public boolean isRoomAssigned() {
+        return room != null;
     }
     
     public User getGuest() {
@@ -9,5 +9,24 @@ public enum ReservationStatus {
     CANCELLED,
     CHECKED_IN,
     CHECKED_OUT,
-    NO_SHOW
+    NO_SHOW;
+    
+    /**
+     * Whether a reservation in this status occupies room inventory
+     */
+    public boolean holdsInventory() {
+        return this != CANCELLED && this != NO_SHOW;
+    }
+    
+    /**
+     * Whether the reservation lifecycle allows moving from this status to the target
+     */
+    public boolean canTransitionTo(ReservationStatus target) {
+        return switch (this) {
+            case PENDING -> target == CONFIRMED || target == CANCELLED;
+            case CONFIRMED -> target == CHECKED_IN || target == CANCELLED || target == NO_SHOW;
+            case CHECKED_IN -> target == CHECKED_OUT;
+            case CANCELLED, CHECKED_OUT, NO_SHOW -> false;
+        };
+    }
 }
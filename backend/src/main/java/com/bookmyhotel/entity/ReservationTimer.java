@@ -0,0 +1,81 @@
+package com.bookmyhotel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Pending lifecycle timer for a reservation, fired once its due time passes
+ */
+@Entity
+@Table(name = "reservation_timers",
+       indexes = {
+           @Index(name = "idx_timer_due", columnList = "due_at"),
+           @Index(name = "idx_timer_reservation_type", columnList = "reservation_id, timer_type", unique = true)
+       })
+public class ReservationTimer {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "timer_type", nullable = false, length = 30)
+    private ReservationTimerType timerType;
+    
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+    
+    // Constructors
+    public ReservationTimer() {}
+    
+    public ReservationTimer(Long reservationId, ReservationTimerType timerType, LocalDateTime dueAt) {
+        this.reservationId = reservationId;
+        this.timerType = timerType;
+        this.dueAt = dueAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getReservationId() {
+        return reservationId;
+    }
+    
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+    
+    public ReservationTimerType getTimerType() {
+        return timerType;
+    }
+    
+    public void setTimerType(ReservationTimerType timerType) {
+        this.timerType = timerType;
+    }
+    
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+    
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+}
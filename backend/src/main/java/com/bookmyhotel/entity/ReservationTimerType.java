@@ -0,0 +1,29 @@
+package com.bookmyhotel.entity;
+
+/**
+ * Durable reservation timers and the transition each one fires
+ */
+public enum ReservationTimerType {
+    PENDING_EXPIRY(ReservationStatus.PENDING, ReservationStatus.CANCELLED),
+    NO_SHOW(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW),
+    AUTO_CHECK_OUT(ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    private final ReservationStatus armedStatus;
+    private final ReservationStatus targetStatus;
+    
+    ReservationTimerType(ReservationStatus armedStatus, ReservationStatus targetStatus) {
+        this.armedStatus = armedStatus;
+        this.targetStatus = targetStatus;
+    }
+    
+    /**
+     * Status the reservation must still be in for the timer to fire
+     */
+    public ReservationStatus getArmedStatus() {
+        return armedStatus;
+    }
+    
+    public ReservationStatus getTargetStatus() {
+        return targetStatus;
+    }
+}
@@ -31,6 +31,7 @@ import jakarta.validation.constraints.Size;
        indexes = {
            @Index(name = "idx_room_tenant", columnList = "tenant_id"),
            @Index(name = "idx_room_hotel", columnList = "hotel_id"),
+           @Index(name = "idx_room_hotel_type_available", columnList = "hotel_id, room_type, is_available"),
            @Index(name = "idx_room_number", columnList = "room_number")
        })
 public class Room extends TenantEntity {
@@ -0,0 +1,108 @@
+package com.bookmyhotel.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Sellable and booked room count for one room type at a hotel on one night
+ */
+@Entity
+@Table(name = "room_type_inventory",
+       indexes = {
+           @Index(name = "idx_inventory_hotel_type_date", columnList = "hotel_id, room_type, stay_date", unique = true)
+       })
+public class RoomTypeInventory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private RoomType roomType;
+    
+    @Column(name = "stay_date", nullable = false)
+    private LocalDate stayDate;
+    
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+    
+    @Column(name = "booked", nullable = false)
+    private Integer booked = 0;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public RoomTypeInventory() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getStayDate() {
+        return stayDate;
+    }
+    
+    public void setStayDate(LocalDate stayDate) {
+        this.stayDate = stayDate;
+    }
+    
+    public Integer getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+    
+    public Integer getBooked() {
+        return booked;
+    }
+    
+    public void setBooked(Integer booked) {
+        this.booked = booked;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
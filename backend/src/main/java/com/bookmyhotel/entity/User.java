@@ -1,5 +1,6 @@
 package com.bookmyhotel.entity;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -33,7 +34,10 @@ import jakarta.validation.constraints.Size;
 @Table(name = "users",
        indexes = {
            @Index(name = "idx_user_tenant", columnList = "tenant_id"),
-           @Index(name = "idx_user_email", columnList = "email", unique = true)
+           @Index(name = "idx_user_email", columnList = "email", unique = true),
+           @Index(name = "idx_user_first_name", columnList = "first_name"),
+           @Index(name = "idx_user_last_name", columnList = "last_name"),
+           @Index(name = "idx_user_email_lookup", columnList = "email")
        })
 public class User extends TenantEntity implements UserDetails {
     
@@ -47,7 +51,8 @@ public class User extends TenantEntity implements UserDetails {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
     
-    @Column(name = "password", nullable = false)
+    // Null for guest accounts created during booking until they are claimed
+    @Column(name = "password")
     private String password;
     
     @NotBlank(message = "First name is required")
@@ -77,6 +82,13 @@ public class User extends TenantEntity implements UserDetails {
     @JoinColumn(name = "hotel_id")
     private Hotel hotel;
     
+    // SHA-256 of the one-time token emailed to claim an unclaimed guest account
+    @Column(name = "claim_token_hash", length = 64)
+    private String claimTokenHash;
+    
+    @Column(name = "claim_token_expires_at")
+    private LocalDateTime claimTokenExpiresAt;
+    
     // Constructors
     public User() {}
     
@@ -145,6 +157,26 @@ public class User extends TenantEntity implements UserDetails {
         this.password = password;
     }
     
+    public boolean isClaimed() {
+        return password != null;
+    }
+    
+    public String getClaimTokenHash() {
+        return claimTokenHash;
+    }
+    
+    public void setClaimTokenHash(String claimTokenHash) {
+        this.claimTokenHash = claimTokenHash;
+    }
+    
+    public LocalDateTime getClaimTokenExpiresAt() {
+        return claimTokenExpiresAt;
+    }
+    
+    public void setClaimTokenExpiresAt(LocalDateTime claimTokenExpiresAt) {
+        this.claimTokenExpiresAt = claimTokenExpiresAt;
+    }
+    
     public String getFirstName() {
         return firstName;
     }
@@ -0,0 +1,189 @@
+package com.bookmyhotel.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Guest request for a room type at a hotel on dates that were sold out
+ */
+@Entity
+@Table(name = "waitlist_entries",
+       indexes = {
+           @Index(name = "idx_waitlist_match", columnList = "hotel_id, room_type, status, check_in_date, check_out_date"),
+           @Index(name = "idx_waitlist_reservation", columnList = "reservation_id")
+       })
+public class WaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private RoomType roomType;
+    
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+    
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+    
+    @Column(name = "guests", nullable = false)
+    private Integer guests;
+    
+    @Column(name = "guest_name", nullable = false, length = 100)
+    private String guestName;
+    
+    @Column(name = "guest_email", nullable = false, length = 100)
+    private String guestEmail;
+    
+    @Column(name = "guest_phone", length = 20)
+    private String guestPhone;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+    
+    // Pending reservation holding the offered inventory
+    @Column(name = "reservation_id")
+    private Long reservationId;
+    
+    @Column(name = "offered_at")
+    private LocalDateTime offeredAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // SHA-256 of the token returned at join; required to read, accept or cancel the entry
+    @Column(name = "access_token_hash", length = 64)
+    private String accessTokenHash;
+    
+    // Constructors
+    public WaitlistEntry() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public Integer getGuests() {
+        return guests;
+    }
+    
+    public void setGuests(Integer guests) {
+        this.guests = guests;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+    
+    public void setGuestEmail(String guestEmail) {
+        this.guestEmail = guestEmail;
+    }
+    
+    public String getGuestPhone() {
+        return guestPhone;
+    }
+    
+    public void setGuestPhone(String guestPhone) {
+        this.guestPhone = guestPhone;
+    }
+    
+    public WaitlistStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(WaitlistStatus status) {
+        this.status = status;
+    }
+    
+    public Long getReservationId() {
+        return reservationId;
+    }
+    
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+    
+    public LocalDateTime getOfferedAt() {
+        return offeredAt;
+    }
+    
+    public void setOfferedAt(LocalDateTime offeredAt) {
+        this.offeredAt = offeredAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public String getAccessTokenHash() {
+        return accessTokenHash;
+    }
+    
+    public void setAccessTokenHash(String accessTokenHash) {
+        this.accessTokenHash = accessTokenHash;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bookmyhotel.entity;
+
+/**
+ * Waitlist entry status enumeration
+ */
+public enum WaitlistStatus {
+    WAITING,    // Waiting for matching inventory
+    OFFERED,    // Inventory is held for the guest under a pending reservation
+    BOOKED,     // Guest accepted and paid for the offer
+    EXPIRED,    // Offer hold ran out before the guest accepted
+    CANCELLED   // Guest left the waitlist
+}
@@ -0,0 +1,17 @@
+package com.bookmyhotel.event;
+
+/**
+ * Published when anything feeding a hotel's compiled rate table changes
+ */
+public class HotelRatesChangedEvent {
+    
+    private final Long hotelId;
+    
+    public HotelRatesChangedEvent(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+}
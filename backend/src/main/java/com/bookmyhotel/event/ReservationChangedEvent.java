@@ -0,0 +1,46 @@
+package com.bookmyhotel.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published whenever a reservation is created, modified or removed.
+ * Carries the hotel and stay dates so listeners can act on a removed
+ * reservation without reading it back.
+ */
+public class ReservationChangedEvent {
+    
+    private final Long reservationId;
+    private final Long guestId;
+    private final Long hotelId;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    
+    public ReservationChangedEvent(Long reservationId, Long guestId, Long hotelId,
+                                   LocalDate checkInDate, LocalDate checkOutDate) {
+        this.reservationId = reservationId;
+        this.guestId = guestId;
+        this.hotelId = hotelId;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public Long getReservationId() {
+        return reservationId;
+    }
+    
+    public Long getGuestId() {
+        return guestId;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+}
@@ -0,0 +1,28 @@
+package com.bookmyhotel.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a reservation moves to new dates; carries the dates it left
+ */
+public class ReservationRescheduledEvent extends ReservationChangedEvent {
+    
+    private final LocalDate previousCheckInDate;
+    private final LocalDate previousCheckOutDate;
+    
+    public ReservationRescheduledEvent(Long reservationId, Long guestId, Long hotelId,
+                                       LocalDate checkInDate, LocalDate checkOutDate,
+                                       LocalDate previousCheckInDate, LocalDate previousCheckOutDate) {
+        super(reservationId, guestId, hotelId, checkInDate, checkOutDate);
+        this.previousCheckInDate = previousCheckInDate;
+        this.previousCheckOutDate = previousCheckOutDate;
+    }
+    
+    public LocalDate getPreviousCheckInDate() {
+        return previousCheckInDate;
+    }
+    
+    public LocalDate getPreviousCheckOutDate() {
+        return previousCheckOutDate;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bookmyhotel.event;
+
+import java.time.LocalDate;
+
+import com.bookmyhotel.entity.ReservationStatus;
+
+/**
+ * Published for every reservation lifecycle transition, including creation
+ * (when the previous status is null)
+ */
+public class ReservationStatusChangedEvent extends ReservationChangedEvent {
+    
+    private final ReservationStatus previousStatus;
+    private final ReservationStatus newStatus;
+    
+    public ReservationStatusChangedEvent(Long reservationId, Long guestId, Long hotelId,
+                                         LocalDate checkInDate, LocalDate checkOutDate,
+                                         ReservationStatus previousStatus, ReservationStatus newStatus) {
+        super(reservationId, guestId, hotelId, checkInDate, checkOutDate);
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+    }
+    
+    public ReservationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public ReservationStatus getNewStatus() {
+        return newStatus;
+    }
+}
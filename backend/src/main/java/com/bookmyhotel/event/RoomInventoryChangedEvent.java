@@ -0,0 +1,31 @@
+package com.bookmyhotel.event;
+
+import com.bookmyhotel.entity.RoomType;
+
+/**
+ * Published when the number of sellable rooms of a type at a hotel changes
+ */
+public class RoomInventoryChangedEvent {
+    
+    private final Long hotelId;
+    private final RoomType roomType;
+    private final int delta;
+    
+    public RoomInventoryChangedEvent(Long hotelId, RoomType roomType, int delta) {
+        this.hotelId = hotelId;
+        this.roomType = roomType;
+        this.delta = delta;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public int getDelta() {
+        return delta;
+    }
+}
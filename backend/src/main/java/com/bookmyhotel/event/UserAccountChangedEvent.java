@@ -0,0 +1,25 @@
+package com.bookmyhotel.event;
+
+/**
+ * Published when a user's status, roles, hotel, email or password changes,
+ * or the user is removed. Access and refresh tokens issued before the change
+ * are revoked once it commits.
+ */
+public class UserAccountChangedEvent {
+    
+    private final Long userId;
+    private final String email;
+    
+    public UserAccountChangedEvent(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+}
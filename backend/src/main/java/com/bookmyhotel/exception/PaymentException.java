@@ -0,0 +1,26 @@
+package com.bookmyhotel.exception;
+
+/**
+ * Exception thrown when the payment provider rejects or fails a request
+ */
+public class PaymentException extends RuntimeException {
+    
+    private final boolean retryable;
+    
+    public PaymentException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+    
+    public PaymentException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+    
+    /**
+     * Whether the same request may succeed if tried again later
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
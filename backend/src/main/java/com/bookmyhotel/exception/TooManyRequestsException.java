@@ -0,0 +1,18 @@
+package com.bookmyhotel.exception;
+
+/**
+ * Exception thrown when a request is refused for load or abuse reasons and may be retried later
+ */
+public class TooManyRequestsException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bookmyhotel.notification;
+
+/**
+ * Outgoing email to guests: account claim codes and waitlist offers
+ */
+public interface EmailSender {
+    
+    /**
+     * Send a plain-text message
+     */
+    void send(String to, String subject, String body);
+}
@@ -0,0 +1,22 @@
+package com.bookmyhotel.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Email sender for local runs: writes messages to the log instead of delivering them.
+ * Messages can carry one-time tokens, so do not use it where logs are shared.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.provider", havingValue = "log", matchIfMissing = true)
+public class LoggingEmailSender implements EmailSender {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoggingEmailSender.class);
+    
+    @Override
+    public void send(String to, String subject, String body) {
+        logger.info("Email to {}: {}\n{}", to, subject, body);
+    }
+}
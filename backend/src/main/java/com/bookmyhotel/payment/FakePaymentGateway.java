@@ -0,0 +1,66 @@
+package com.bookmyhotel.payment;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.bookmyhotel.exception.PaymentException;
+
+/**
+ * In-memory payment gateway for local runs and tests.
+ * Latency and the share of transient failures are configurable to exercise retries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payments.provider", havingValue = "fake")
+public class FakePaymentGateway implements PaymentGateway {
+    
+    private final long latencyMillis;
+    private final double failureRate;
+    private final Map<String, String> refundsByKey = new ConcurrentHashMap<>();
+    
+    public FakePaymentGateway(@Value("${app.payments.fake.latency-ms:0}") long latencyMillis,
+                              @Value("${app.payments.fake.failure-rate:0}") double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+    
+    @Override
+    public String charge(BigDecimal amount, String paymentMethodId) {
+        simulateCall();
+        return "pi_fake_" + UUID.randomUUID().toString().replace("-", "");
+    }
+    
+    @Override
+    public String refund(String paymentIntentId, BigDecimal amount, String idempotencyKey) {
+        simulateCall();
+        return refundsByKey.computeIfAbsent(idempotencyKey,
+            key -> "re_fake_" + UUID.randomUUID().toString().replace("-", ""));
+    }
+    
+    /**
+     * Number of distinct refunds issued, retries of the same key counted once
+     */
+    public int getRefundCount() {
+        return refundsByKey.size();
+    }
+    
+    private void simulateCall() {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PaymentException("Interrupted", true, e);
+            }
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new PaymentException("Simulated provider failure", true);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.bookmyhotel.payment;
+
+import java.math.BigDecimal;
+
+import com.bookmyhotel.exception.PaymentException;
+
+/**
+ * Payment provider operations used by bookings and refunds
+ */
+public interface PaymentGateway {
+    
+    /**
+     * Charge a payment method and return the payment intent id
+     */
+    String charge(BigDecimal amount, String paymentMethodId) throws PaymentException;
+    
+    /**
+     * Refund part or all of a payment and return the refund id.
+     * The idempotency key makes retries of the same refund safe.
+     */
+    String refund(String paymentIntentId, BigDecimal amount, String idempotencyKey) throws PaymentException;
+}
@@ -0,0 +1,84 @@
+package com.bookmyhotel.payment;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.bookmyhotel.exception.PaymentException;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.RateLimitException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.Refund;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.PaymentIntentCreateParams;
+import com.stripe.param.RefundCreateParams;
+
+/**
+ * Stripe payment gateway
+ */
+@Component
+@ConditionalOnProperty(name = "app.payments.provider", havingValue = "stripe", matchIfMissing = true)
+public class StripePaymentGateway implements PaymentGateway {
+    
+    @Value("${stripe.api.key:}")
+    private String stripeApiKey;
+    
+    @Override
+    public String charge(BigDecimal amount, String paymentMethodId) {
+        PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
+            .setAmount(toCents(amount))
+            .setCurrency("usd")
+            .setPaymentMethod(paymentMethodId)
+            .setConfirm(true)
+            .setReturnUrl("https://your-website.com/return")
+            .build();
+        
+        try {
+            return PaymentIntent.create(params, requestOptions(null)).getId();
+        } catch (StripeException e) {
+            throw translate(e);
+        }
+    }
+    
+    @Override
+    public String refund(String paymentIntentId, BigDecimal amount, String idempotencyKey) {
+        RefundCreateParams params = RefundCreateParams.builder()
+            .setPaymentIntent(paymentIntentId)
+            .setAmount(toCents(amount))
+            .build();
+        
+        try {
+            return Refund.create(params, requestOptions(idempotencyKey)).getId();
+        } catch (StripeException e) {
+            throw translate(e);
+        }
+    }
+    
+    private RequestOptions requestOptions(String idempotencyKey) {
+        if (stripeApiKey == null || stripeApiKey.isEmpty()) {
+            throw new PaymentException("Payment processing is not configured", false);
+        }
+        RequestOptions.RequestOptionsBuilder builder = RequestOptions.builder().setApiKey(stripeApiKey);
+        if (idempotencyKey != null) {
+            builder.setIdempotencyKey(idempotencyKey);
+        }
+        return builder.build();
+    }
+    
+    private long toCents(BigDecimal amount) {
+        return amount.multiply(BigDecimal.valueOf(100)).longValue();
+    }
+    
+    /**
+     * Network failures, rate limits and provider-side errors are worth retrying; card and request errors are not
+     */
+    private PaymentException translate(StripeException e) {
+        boolean retryable = e instanceof ApiConnectionException
+            || e instanceof RateLimitException
+            || (e.getStatusCode() != null && e.getStatusCode() >= 500);
+        return new PaymentException(e.getMessage(), retryable, e);
+    }
+}
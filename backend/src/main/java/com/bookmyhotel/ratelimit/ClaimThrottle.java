@@ -0,0 +1,56 @@
+package com.bookmyhotel.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Throttles requests for account claim codes per account and per client IP.
+ * Kept apart from LoginThrottle so asking for codes never locks an account out of signing in.
+ */
+@Component
+public class ClaimThrottle {
+    
+    private final RateLimiter accountLimiter;
+    private final RateLimiter ipLimiter;
+    private final Counter throttled;
+    
+    public ClaimThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.auth.claim-throttle.account-capacity:3}") long accountCapacity,
+                         @Value("${app.auth.claim-throttle.account-refill-per-second:0.002}") double accountRefill,
+                         @Value("${app.auth.claim-throttle.ip-capacity:10}") long ipCapacity,
+                         @Value("${app.auth.claim-throttle.ip-refill-per-second:0.02}") double ipRefill) {
+        this.accountLimiter = new RateLimiter(accountCapacity, accountRefill, System::nanoTime);
+        this.ipLimiter = new RateLimiter(ipCapacity, ipRefill, System::nanoTime);
+        this.throttled = Counter.builder("bookmyhotel.auth.claim.throttled").register(meterRegistry);
+    }
+    
+    /**
+     * Take a request from the account's and the IP's buckets; returns 0 when allowed, otherwise seconds to wait
+     */
+    public long acquire(String email, String clientIp) {
+        long retryAfter = Math.max(accountLimiter.retryAfter(accountKey(email)), ipLimiter.retryAfter(clientIp));
+        if (retryAfter > 0) {
+            throttled.increment();
+            return retryAfter;
+        }
+        accountLimiter.acquire(accountKey(email));
+        ipLimiter.acquire(clientIp);
+        return 0;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        accountLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+    
+    private static String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
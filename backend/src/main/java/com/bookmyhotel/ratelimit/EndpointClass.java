@@ -0,0 +1,39 @@
+package com.bookmyhotel.ratelimit;
+
+/**
+ * Groups of public endpoints that share rate limits
+ */
+public enum EndpointClass {
+    SEARCH("search"),     // Hotel search and details, and reads of bookings and waitlist entries
+    BOOKING("booking");   // Creating, changing and cancelling bookings and waitlist entries
+    
+    private final String tag;
+    
+    EndpointClass(String tag) {
+        this.tag = tag;
+    }
+    
+    public String getTag() {
+        return tag;
+    }
+    
+    /**
+     * Endpoint class of a request, or null when it is not rate limited
+     */
+    public static EndpointClass of(String method, String path) {
+        if (path.startsWith("/api/hotels")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/api/bookings/webhook")) {
+            return null;
+        }
+        if (path.startsWith("/api/bookings") || path.startsWith("/api/waitlist")) {
+            return isMutating(method) ? BOOKING : SEARCH;
+        }
+        return null;
+    }
+    
+    private static boolean isMutating(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+}
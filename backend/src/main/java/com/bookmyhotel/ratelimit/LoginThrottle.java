@@ -0,0 +1,62 @@
+package com.bookmyhotel.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Throttles failed sign-ins per account and per client IP.
+ * Every failure takes a token from both buckets; once either is empty, further
+ * attempts are refused before any password is hashed until it refills.
+ */
+@Component
+public class LoginThrottle {
+    
+    private final RateLimiter accountLimiter;
+    private final RateLimiter ipLimiter;
+    private final Counter throttled;
+    
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.auth.throttle.account-capacity:5}") long accountCapacity,
+                         @Value("${app.auth.throttle.account-refill-per-second:0.01}") double accountRefill,
+                         @Value("${app.auth.throttle.ip-capacity:20}") long ipCapacity,
+                         @Value("${app.auth.throttle.ip-refill-per-second:0.05}") double ipRefill) {
+        this.accountLimiter = new RateLimiter(accountCapacity, accountRefill, System::nanoTime);
+        this.ipLimiter = new RateLimiter(ipCapacity, ipRefill, System::nanoTime);
+        this.throttled = Counter.builder("bookmyhotel.auth.login.throttled").register(meterRegistry);
+    }
+    
+    /**
+     * Seconds the caller must wait before trying this account from this IP, or 0 if allowed
+     */
+    public long retryAfter(String email, String clientIp) {
+        long retryAfter = Math.max(accountLimiter.retryAfter(accountKey(email)), ipLimiter.retryAfter(clientIp));
+        if (retryAfter > 0) {
+            throttled.increment();
+        }
+        return retryAfter;
+    }
+    
+    /**
+     * Count a failed sign-in against the account and the IP
+     */
+    public void recordFailure(String email, String clientIp) {
+        accountLimiter.acquire(accountKey(email));
+        ipLimiter.acquire(clientIp);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        accountLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+    
+    private static String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,151 @@
+package com.bookmyhotel.ratelimit;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.bookmyhotel.tenant.TenantResolver;
+import com.bookmyhotel.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for the public search and booking endpoints.
+ * Each request takes a token from its client IP's bucket and from its tenant's bucket;
+ * it is rejected with 429 when either is empty. Runs ahead of the security chain so
+ * rejected requests cost no authentication or database work. The tenant comes from a
+ * valid access token or else the host name, never from the client-supplied tenant header,
+ * so a client cannot spread its requests over other tenants' buckets.
+ * The client IP is the remote address; behind a proxy set server.forward-headers-strategy.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final String REJECTED_METRIC = "bookmyhotel.ratelimit.rejected";
+    
+    private final TenantResolver tenantResolver;
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Map<EndpointClass, RateLimiter> ipLimiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, RateLimiter> tenantLimiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> ipRejections = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> tenantRejections = new EnumMap<>(EndpointClass.class);
+    
+    public RateLimitFilter(TenantResolver tenantResolver,
+                           JwtUtil jwtUtil,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.search.ip-capacity:60}") long searchIpCapacity,
+                           @Value("${app.rate-limit.search.ip-refill-per-second:2}") double searchIpRefill,
+                           @Value("${app.rate-limit.search.tenant-capacity:2000}") long searchTenantCapacity,
+                           @Value("${app.rate-limit.search.tenant-refill-per-second:200}") double searchTenantRefill,
+                           @Value("${app.rate-limit.booking.ip-capacity:10}") long bookingIpCapacity,
+                           @Value("${app.rate-limit.booking.ip-refill-per-second:0.2}") double bookingIpRefill,
+                           @Value("${app.rate-limit.booking.tenant-capacity:500}") long bookingTenantCapacity,
+                           @Value("${app.rate-limit.booking.tenant-refill-per-second:50}") double bookingTenantRefill) {
+        this.tenantResolver = tenantResolver;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        
+        ipLimiters.put(EndpointClass.SEARCH, new RateLimiter(searchIpCapacity, searchIpRefill, System::nanoTime));
+        tenantLimiters.put(EndpointClass.SEARCH, new RateLimiter(searchTenantCapacity, searchTenantRefill, System::nanoTime));
+        ipLimiters.put(EndpointClass.BOOKING, new RateLimiter(bookingIpCapacity, bookingIpRefill, System::nanoTime));
+        tenantLimiters.put(EndpointClass.BOOKING, new RateLimiter(bookingTenantCapacity, bookingTenantRefill, System::nanoTime));
+        
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ipRejections.put(endpointClass, Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected by rate limiting")
+                .tag("endpoint", endpointClass.getTag())
+                .tag("scope", "ip")
+                .register(meterRegistry));
+            tenantRejections.put(endpointClass, Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected by rate limiting")
+                .tag("endpoint", endpointClass.getTag())
+                .tag("scope", "tenant")
+                .register(meterRegistry));
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod(), request.getRequestURI());
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        // Per-IP first so a single scraper cannot drain its tenant's bucket
+        long retryAfter = ipLimiters.get(endpointClass).acquire(request.getRemoteAddr());
+        if (retryAfter > 0) {
+            ipRejections.get(endpointClass).increment();
+            reject(response, retryAfter);
+            return;
+        }
+        
+        retryAfter = tenantLimiters.get(endpointClass).acquire(tenantKey(request));
+        if (retryAfter > 0) {
+            tenantRejections.get(endpointClass).increment();
+            reject(response, retryAfter);
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    /**
+     * Drop idle buckets so the key maps stay bounded by recently active clients
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        ipLimiters.values().forEach(RateLimiter::evictIdle);
+        tenantLimiters.values().forEach(RateLimiter::evictIdle);
+    }
+    
+    /**
+     * Tenant of a verified access token, otherwise the tenant of the host name
+     */
+    private String tenantKey(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtUtil.verify(authorizationHeader.substring(7));
+                String tenantId = claims.get("tenantId", String.class);
+                if (tenantId != null) {
+                    return tenantId;
+                }
+            } catch (Exception e) {
+                // An invalid token is rejected later by the security chain
+            }
+        }
+        return tenantResolver.resolveTenantFromHost(request);
+    }
+    
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Too many requests\"}");
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookmyhotel.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for one endpoint class and key scope (tenant or client IP).
+ * Buckets are created on first use and dropped once idle long enough to be full again.
+ */
+public class RateLimiter {
+    
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Function<String, TokenBucket> bucketFactory;
+    private final LongSupplier clock;
+    private final long idleNanos;
+    
+    public RateLimiter(long capacity, double refillPerSecond, LongSupplier clock) {
+        // Build one bucket up front so a bad configuration fails at startup, not on the first request
+        new TokenBucket(capacity, refillPerSecond, clock.getAsLong());
+        this.clock = clock;
+        this.bucketFactory = key -> new TokenBucket(capacity, refillPerSecond, clock.getAsLong());
+        // Time for an empty bucket to fill, plus a minute of slack
+        this.idleNanos = (long) (capacity / refillPerSecond * TimeUnit.SECONDS.toNanos(1)) + TimeUnit.MINUTES.toNanos(1);
+    }
+    
+    /**
+     * Take a token for the key; returns 0 when admitted, otherwise seconds to wait
+     */
+    public long acquire(String key) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, bucketFactory);
+        }
+        if (bucket.tryConsume(now)) {
+            return 0L;
+        }
+        return bucket.secondsUntilNextToken(now);
+    }
+    
+    /**
+     * Seconds until the key could take a token, or 0 if it can now; takes nothing
+     */
+    public long retryAfter(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0L;
+        }
+        long now = clock.getAsLong();
+        return bucket.hasToken(now) ? 0L : bucket.secondsUntilNextToken(now);
+    }
+    
+    /**
+     * Remove buckets that have been idle long enough to be full
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+    
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,105 @@
+package com.bookmyhotel.ratelimit;
+
+/**
+ * Token bucket refilled continuously from the caller's clock.
+ * Tokens are kept in micro-token units and refills carry the fraction of a unit
+ * left over, so any rate up to {@link #MAX_REFILL_PER_SECOND} is exact without floating point.
+ */
+public class TokenBucket {
+    
+    /** Fastest refill rate whose arithmetic stays within a long */
+    public static final double MAX_REFILL_PER_SECOND = 9_000;
+    
+    private static final long UNIT = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    
+    private final long capacity;
+    private final long unitsPerSecond;
+    
+    private long available;
+    private long lastRefillNanos;
+    private long carry;
+    private volatile long lastUsedNanos;
+    
+    /**
+     * @param capacity burst size in tokens
+     * @param refillPerSecond sustained rate in tokens per second
+     * @param nowNanos current monotonic time
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        if (refillPerSecond > MAX_REFILL_PER_SECOND) {
+            throw new IllegalArgumentException("Refill rate must be at most " + MAX_REFILL_PER_SECOND + " tokens per second");
+        }
+        this.capacity = Math.multiplyExact(capacity, UNIT);
+        this.unitsPerSecond = Math.max(1L, Math.round(refillPerSecond * UNIT));
+        this.available = this.capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+    
+    /**
+     * Take one token if available
+     */
+    public synchronized boolean tryConsume(long nowNanos) {
+        lastUsedNanos = nowNanos;
+        refill(nowNanos);
+        if (available < UNIT) {
+            return false;
+        }
+        available -= UNIT;
+        return true;
+    }
+    
+    /**
+     * Whether a token is available, without taking it
+     */
+    public synchronized boolean hasToken(long nowNanos) {
+        refill(nowNanos);
+        return available >= UNIT;
+    }
+    
+    /**
+     * Seconds until the next token is available, at least 1
+     */
+    public synchronized long secondsUntilNextToken(long nowNanos) {
+        refill(nowNanos);
+        long missing = Math.max(0L, UNIT - available);
+        long nanos = (missing * NANOS_PER_SECOND - carry + unitsPerSecond - 1) / unitsPerSecond;
+        return Math.max(1L, (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+    
+    /**
+     * Whether the bucket has not been used for the given time.
+     * An idle bucket is full again and can be dropped without changing behaviour.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastUsedNanos > idleNanos;
+    }
+    
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        lastRefillNanos = nowNanos;
+        long wholeSeconds = elapsed / NANOS_PER_SECOND;
+        if (wholeSeconds > capacity / unitsPerSecond) {
+            available = capacity;
+            carry = 0;
+            return;
+        }
+        // unitsPerSecond is below 2^63 / 10^9, so the scaled fraction cannot overflow
+        long scaled = (elapsed % NANOS_PER_SECOND) * unitsPerSecond + carry;
+        long units = wholeSeconds * unitsPerSecond + scaled / NANOS_PER_SECOND;
+        carry = scaled % NANOS_PER_SECOND;
+        if (units >= capacity - available) {
+            available = capacity;
+            carry = 0;
+        } else {
+            available += units;
+        }
+    }
+}
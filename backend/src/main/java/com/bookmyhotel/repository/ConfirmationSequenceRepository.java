@@ -0,0 +1,37 @@
+package com.bookmyhotel.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.ConfirmationSequence;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Confirmation sequence repository
+ */
+@Repository
+public interface ConfirmationSequenceRepository extends JpaRepository<ConfirmationSequence, String> {
+    
+    /**
+     * Find the sequence row for a tenant and lock it for the rest of the transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ConfirmationSequence s WHERE s.tenantId = :tenantId")
+    Optional<ConfirmationSequence> findForUpdate(@Param("tenantId") String tenantId);
+    
+    /**
+     * Create the sequence row for a tenant unless another node already did
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO confirmation_sequences (tenant_id, next_block, updated_at) " +
+                   "VALUES (:tenantId, 0, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("tenantId") String tenantId);
+}
@@ -0,0 +1,82 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.HotelDailyStats;
+
+/**
+ * Hotel daily stats repository.
+ * Rows are rebuilt from reservations rather than adjusted by deltas, so a
+ * rebuild is idempotent and any drift is corrected by the next one. Rebuilds
+ * zero the rows and upsert over them, so two rebuilds of the same day never
+ * collide on the (hotel, day, status) key.
+ */
+@Repository
+public interface HotelDailyStatsRepository extends JpaRepository<HotelDailyStats, Long> {
+    
+    /**
+     * Booking count per status over all days
+     */
+    @Query("SELECT s.status, SUM(s.checkIns) FROM HotelDailyStats s " +
+           "WHERE s.hotelId = :hotelId GROUP BY s.status")
+    List<Object[]> sumCheckInsByStatus(@Param("hotelId") Long hotelId);
+    
+    /**
+     * Rows for days from a date onwards
+     */
+    List<HotelDailyStats> findByHotelIdAndStatDateGreaterThanEqual(Long hotelId, LocalDate fromDate);
+    
+    /**
+     * Zero the rows of the given days; statuses no reservation has any more stay at zero
+     */
+    @Modifying
+    @Query("UPDATE HotelDailyStats s SET s.checkIns = 0, s.checkOuts = 0, s.revenue = 0 " +
+           "WHERE s.hotelId = :hotelId AND s.statDate IN :dates")
+    int zeroDays(@Param("hotelId") Long hotelId, @Param("dates") Collection<LocalDate> dates);
+    
+    @Modifying
+    @Query("DELETE FROM HotelDailyStats s WHERE s.hotelId = :hotelId")
+    int deleteHotel(@Param("hotelId") Long hotelId);
+    
+    /**
+     * Recompute the rows of the given days from the reservations checking in or out on them
+     */
+    @Modifying
+    @Query(value = "INSERT INTO hotel_daily_stats (hotel_id, stat_date, status, check_ins, check_outs, revenue, updated_at) " +
+                   "SELECT :hotelId, stat_date, status, SUM(check_ins), SUM(check_outs), SUM(revenue), CURRENT_TIMESTAMP FROM (" +
+                   "SELECT check_in_date AS stat_date, status, COUNT(*) AS check_ins, 0 AS check_outs, SUM(total_amount) AS revenue " +
+                   "FROM reservations WHERE hotel_id = :hotelId AND check_in_date IN (:dates) GROUP BY check_in_date, status " +
+                   "UNION ALL " +
+                   "SELECT check_out_date, status, 0, COUNT(*), 0 " +
+                   "FROM reservations WHERE hotel_id = :hotelId AND check_out_date IN (:dates) GROUP BY check_out_date, status" +
+                   ") days GROUP BY stat_date, status " +
+                   "ON DUPLICATE KEY UPDATE check_ins = VALUES(check_ins), check_outs = VALUES(check_outs), " +
+                   "revenue = VALUES(revenue), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsertDays(@Param("hotelId") Long hotelId, @Param("dates") Collection<LocalDate> dates);
+    
+    /**
+     * Recompute every row of a hotel
+     */
+    @Modifying
+    @Query(value = "INSERT INTO hotel_daily_stats (hotel_id, stat_date, status, check_ins, check_outs, revenue, updated_at) " +
+                   "SELECT :hotelId, stat_date, status, SUM(check_ins), SUM(check_outs), SUM(revenue), CURRENT_TIMESTAMP FROM (" +
+                   "SELECT check_in_date AS stat_date, status, COUNT(*) AS check_ins, 0 AS check_outs, SUM(total_amount) AS revenue " +
+                   "FROM reservations WHERE hotel_id = :hotelId GROUP BY check_in_date, status " +
+                   "UNION ALL " +
+                   "SELECT check_out_date, status, 0, COUNT(*), 0 " +
+                   "FROM reservations WHERE hotel_id = :hotelId GROUP BY check_out_date, status" +
+                   ") days GROUP BY stat_date, status " +
+                   "ON DUPLICATE KEY UPDATE check_ins = VALUES(check_ins), check_outs = VALUES(check_outs), " +
+                   "revenue = VALUES(revenue), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsertHotel(@Param("hotelId") Long hotelId);
+}
@@ -38,7 +38,8 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
            "AND (:maxPrice IS NULL OR r.pricePerNight <= :maxPrice) " +
            "AND r.id NOT IN (" +
            "  SELECT res.room.id FROM Reservation res " +
-           "  WHERE res.status NOT IN ('CANCELLED', 'NO_SHOW') " +
+           "  WHERE res.room IS NOT NULL " +
+           "  AND res.status NOT IN ('CANCELLED', 'NO_SHOW') " +
            "  AND NOT (res.checkOutDate <= :checkInDate OR res.checkInDate >= :checkOutDate)" +
            ")")
     List<Hotel> findAvailableHotels(
@@ -0,0 +1,20 @@
+package com.bookmyhotel.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.RateRule;
+
+/**
+ * Rate rule repository
+ */
+@Repository
+public interface RateRuleRepository extends JpaRepository<RateRule, Long> {
+    
+    /**
+     * Find all rate rules for a hotel
+     */
+    List<RateRule> findByHotelIdOrderByIdAsc(Long hotelId);
+}
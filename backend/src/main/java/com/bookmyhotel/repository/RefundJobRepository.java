@@ -0,0 +1,37 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.entity.RefundStatus;
+
+/**
+ * Refund job repository
+ */
+@Repository
+public interface RefundJobRepository extends JpaRepository<RefundJob, Long> {
+    
+    /**
+     * Claim due jobs, including in-progress jobs whose lease ran out,
+     * skipping rows another node is already claiming
+     */
+    @Query(value = "SELECT * FROM refund_jobs " +
+                   "WHERE status IN ('PENDING', 'IN_PROGRESS') AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<RefundJob> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    long countByStatus(RefundStatus status);
+    
+    /**
+     * Whether the reservation has a refund in one of the given states
+     */
+    boolean existsByReservationIdAndStatusIn(Long reservationId, Collection<RefundStatus> statuses);
+}
@@ -0,0 +1,79 @@
+package com.bookmyhotel.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.Reservation;
+
+/**
+ * JDBC batch operations on reservations.
+ * Reservation ids are IDENTITY-generated, which stops Hibernate from batching
+ * inserts, so bulk writes go through JdbcTemplate. Callers re-read the rows
+ * by confirmation number when they need the managed entities.
+ */
+@Repository
+public class ReservationJdbcRepository {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO reservations (tenant_id, confirmation_number, hotel_id, room_type, room_id, guest_id, " +
+        "check_in_date, check_out_date, total_amount, status, special_requests, payment_intent_id, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert reservations in a single JDBC batch
+     */
+    public void batchInsert(List<Reservation> reservations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Reservation reservation = reservations.get(i);
+                ps.setString(1, reservation.getTenantId());
+                ps.setString(2, reservation.getConfirmationNumber());
+                ps.setLong(3, reservation.getHotel().getId());
+                ps.setString(4, reservation.getRoomType().name());
+                if (reservation.getRoom() != null) {
+                    ps.setLong(5, reservation.getRoom().getId());
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                ps.setLong(6, reservation.getGuest().getId());
+                ps.setDate(7, Date.valueOf(reservation.getCheckInDate()));
+                ps.setDate(8, Date.valueOf(reservation.getCheckOutDate()));
+                ps.setBigDecimal(9, reservation.getTotalAmount());
+                ps.setString(10, reservation.getStatus().name());
+                if (reservation.getSpecialRequests() != null) {
+                    ps.setString(11, reservation.getSpecialRequests());
+                } else {
+                    ps.setNull(11, Types.VARCHAR);
+                }
+                if (reservation.getPaymentIntentId() != null) {
+                    ps.setString(12, reservation.getPaymentIntentId());
+                } else {
+                    ps.setNull(12, Types.VARCHAR);
+                }
+                ps.setTimestamp(13, now);
+                ps.setTimestamp(14, now);
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return reservations.size();
+            }
+        });
+    }
+}
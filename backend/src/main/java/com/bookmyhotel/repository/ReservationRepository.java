@@ -1,15 +1,29 @@
 package com.bookmyhotel.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.RoomType;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * Reservation repository
@@ -22,6 +36,117 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      */
     List<Reservation> findByGuestIdOrderByCreatedAtDesc(Long guestId);
     
+    /**
+     * Hotel booking filter: an optional prefix matched against guest first name,
+     * last name and email (through their indexes) and room number, or an exact status.
+     * Relies on the case-insensitive column collation instead of LOWER() so the indexes stay usable.
+     * The prefix escapes its own wildcards with '!'.
+     */
+    String HOTEL_BOOKING_FILTER = "WHERE r.hotel.id = :hotelId " +
+           "AND (:prefix IS NULL " +
+           "OR r.guest.id IN (SELECT u.id FROM User u WHERE u.firstName LIKE :prefix ESCAPE '!' " +
+           "OR u.lastName LIKE :prefix ESCAPE '!' OR u.email LIKE :prefix ESCAPE '!') " +
+           "OR rm.roomNumber LIKE :prefix ESCAPE '!' OR r.status = :status) ";
+    
+    /**
+     * One keyset page of a hotel's bookings, latest check-in first, after the
+     * optional (checkInDate, id) cursor, with room, guest and hotel fetched
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.room rm JOIN FETCH r.guest JOIN FETCH r.hotel " +
+           HOTEL_BOOKING_FILTER +
+           "AND (:cursorDate IS NULL OR r.checkInDate < :cursorDate " +
+           "OR (r.checkInDate = :cursorDate AND r.id < :cursorId)) " +
+           "ORDER BY r.checkInDate DESC, r.id DESC")
+    List<Reservation> findHotelBookings(
+        @Param("hotelId") Long hotelId,
+        @Param("prefix") String prefix,
+        @Param("status") ReservationStatus status,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    /**
+     * Offset page of a hotel's bookings, latest check-in first, with room, guest and hotel fetched
+     */
+    @Query(value = "SELECT r FROM Reservation r " +
+                   "LEFT JOIN FETCH r.room rm JOIN FETCH r.guest JOIN FETCH r.hotel " +
+                   HOTEL_BOOKING_FILTER +
+                   "ORDER BY r.checkInDate DESC, r.id DESC",
+           countQuery = "SELECT COUNT(r) FROM Reservation r LEFT JOIN r.room rm " + HOTEL_BOOKING_FILTER)
+    Page<Reservation> findHotelBookingsPage(
+        @Param("hotelId") Long hotelId,
+        @Param("prefix") String prefix,
+        @Param("status") ReservationStatus status,
+        Pageable pageable
+    );
+    
+    /**
+     * One exported booking row
+     */
+    interface BookingExportRow {
+        String getConfirmationNumber();
+        LocalDate getCheckInDate();
+        LocalDate getCheckOutDate();
+        ReservationStatus getStatus();
+        RoomType getRoomType();
+        String getRoomNumber();
+        String getGuestFirstName();
+        String getGuestLastName();
+        String getGuestEmail();
+        BigDecimal getTotalAmount();
+        LocalDateTime getCreatedAt();
+    }
+    
+    /**
+     * Stream a hotel's bookings with check-in in [from, to) as read-only rows, oldest first.
+     * The MySQL driver streams row by row only with a fetch size of Integer.MIN_VALUE;
+     * the stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.confirmationNumber AS confirmationNumber, r.checkInDate AS checkInDate, " +
+           "r.checkOutDate AS checkOutDate, r.status AS status, r.roomType AS roomType, " +
+           "rm.roomNumber AS roomNumber, g.firstName AS guestFirstName, g.lastName AS guestLastName, " +
+           "g.email AS guestEmail, r.totalAmount AS totalAmount, r.createdAt AS createdAt " +
+           "FROM Reservation r JOIN r.guest g LEFT JOIN r.room rm " +
+           "WHERE r.hotel.id = :hotelId " +
+           "AND (:fromDate IS NULL OR r.checkInDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR r.checkInDate < :toDate) " +
+           "ORDER BY r.checkInDate, r.id")
+    Stream<BookingExportRow> streamHotelBookings(
+        @Param("hotelId") Long hotelId,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * First page of a guest's booking history, newest first, with room, hotel and guest fetched
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.room JOIN FETCH r.hotel JOIN FETCH r.guest " +
+           "WHERE r.guest.id = :guestId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Reservation> findGuestHistory(@Param("guestId") Long guestId, Pageable pageable);
+    
+    /**
+     * Next page of a guest's booking history after the (createdAt, id) keyset cursor
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.room JOIN FETCH r.hotel JOIN FETCH r.guest " +
+           "WHERE r.guest.id = :guestId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Reservation> findGuestHistoryBefore(
+        @Param("guestId") Long guestId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
     /**
      * Find reservations by status
      */
@@ -32,6 +157,18 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      */
     Optional<Reservation> findByPaymentIntentId(String paymentIntentId);
     
+    /**
+     * Find a tenant's reservation by confirmation number
+     */
+    Optional<Reservation> findByConfirmationNumberAndTenantId(String confirmationNumber, String tenantId);
+    
+    /**
+     * Find a reservation and lock it for the rest of the transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+    
     /**
      * Find overlapping reservations for a room
      */
@@ -46,31 +183,96 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     );
     
     /**
-     * Find reservations by hotel
+     * Find active reservations for any of the given rooms overlapping a date range
      */
-    @Query("SELECT r FROM Reservation r WHERE r.room.hotel.id = :hotelId ORDER BY r.checkInDate DESC")
-    List<Reservation> findByHotelId(@Param("hotelId") Long hotelId);
+    @Query("SELECT r FROM Reservation r " +
+           "WHERE r.room.id IN :roomIds " +
+           "AND r.status NOT IN ('CANCELLED', 'NO_SHOW') " +
+           "AND r.checkOutDate > :fromDate AND r.checkInDate < :toDate")
+    List<Reservation> findActiveByRoomIdsInRange(
+        @Param("roomIds") Collection<Long> roomIds,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
     
     /**
-     * Find upcoming check-ins
+     * Find reservations at a hotel in the given statuses overlapping a date range
      */
     @Query("SELECT r FROM Reservation r " +
-           "WHERE r.checkInDate = :date " +
-           "AND r.status = 'CONFIRMED'")
-    List<Reservation> findUpcomingCheckIns(@Param("date") LocalDate date);
+           "WHERE r.hotel.id = :hotelId AND r.status IN :statuses " +
+           "AND r.checkOutDate > :fromDate AND r.checkInDate < :toDate")
+    List<Reservation> findByHotelAndStatusInRange(
+        @Param("hotelId") Long hotelId,
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * Find active reservations of a room type at a hotel overlapping a date range
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "WHERE r.hotel.id = :hotelId AND r.roomType = :roomType " +
+           "AND r.status NOT IN ('CANCELLED', 'NO_SHOW') " +
+           "AND r.checkOutDate > :fromDate AND r.checkInDate < :toDate")
+    List<Reservation> findActiveByHotelAndRoomTypeInRange(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") RoomType roomType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
     
     /**
-     * Find upcoming check-outs
+     * Find active reservations still waiting for a room, checking in within a date range
      */
     @Query("SELECT r FROM Reservation r " +
-           "WHERE r.checkOutDate = :date " +
-           "AND r.status = 'CHECKED_IN'")
-    List<Reservation> findUpcomingCheckOuts(@Param("date") LocalDate date);
+           "WHERE r.room IS NULL " +
+           "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate >= :fromDate AND r.checkInDate <= :toDate " +
+           "ORDER BY r.checkInDate, r.checkOutDate DESC")
+    List<Reservation> findUnassignedCheckingInBetween(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * Find a tenant's reservations by confirmation numbers with room, hotel and guest loaded
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.room JOIN FETCH r.hotel JOIN FETCH r.guest " +
+           "WHERE r.confirmationNumber IN :confirmationNumbers AND r.tenantId = :tenantId")
+    List<Reservation> findByConfirmationNumberIn(@Param("confirmationNumbers") Collection<String> confirmationNumbers,
+                                                 @Param("tenantId") String tenantId);
+    
+    /**
+     * Find reservations by hotel
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.hotel.id = :hotelId ORDER BY r.checkInDate DESC")
+    List<Reservation> findByHotelId(@Param("hotelId") Long hotelId);
+    
+    /**
+     * Find a reservation with its guest and room fetched
+     */
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.room JOIN FETCH r.guest WHERE r.id = :id")
+    Optional<Reservation> findWithGuestAndRoomById(@Param("id") Long id);
+    
+    /**
+     * Find a hotel's expected and completed check-ins for a date, with guest and room fetched
+     */
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.room JOIN FETCH r.guest " +
+           "WHERE r.hotel.id = :hotelId " +
+           "AND r.checkInDate = :date " +
+           "AND r.status IN ('CONFIRMED', 'CHECKED_IN') " +
+           "ORDER BY r.id")
+    List<Reservation> findUpcomingCheckIns(@Param("hotelId") Long hotelId, @Param("date") LocalDate date);
     
     /**
-     * Generate confirmation number
+     * Find a hotel's expected and completed check-outs for a date, with guest and room fetched
      */
-    @Query(value = "SELECT CONCAT('BK', LPAD(CAST(COALESCE(MAX(id), 0) + 1 AS CHAR), 8, '0')) FROM reservations", 
-           nativeQuery = true)
-    String generateConfirmationNumber();
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.room JOIN FETCH r.guest " +
+           "WHERE r.hotel.id = :hotelId " +
+           "AND r.checkOutDate = :date " +
+           "AND r.status IN ('CHECKED_IN', 'CHECKED_OUT') " +
+           "ORDER BY r.id")
+    List<Reservation> findUpcomingCheckOuts(@Param("hotelId") Long hotelId, @Param("date") LocalDate date);
 }
@@ -0,0 +1,34 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.ReservationTimer;
+
+/**
+ * Reservation timer repository
+ */
+@Repository
+public interface ReservationTimerRepository extends JpaRepository<ReservationTimer, Long> {
+    
+    /**
+     * Claim a batch of due timers, skipping rows another node is already processing
+     */
+    @Query(value = "SELECT * FROM reservation_timers WHERE due_at <= :now " +
+                   "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ReservationTimer> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * Disarm every timer of a reservation
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationTimer t WHERE t.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+}
@@ -0,0 +1,35 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.RevokedToken;
+
+/**
+ * Revoked token repository
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    
+    /**
+     * Latest revocation recorded for a key, or null if there is none
+     */
+    @Query("SELECT MAX(r.revokedAt) FROM RevokedToken r WHERE r.tokenKey = :tokenKey")
+    LocalDateTime findLatestRevokedAt(@Param("tokenKey") String tokenKey);
+    
+    /**
+     * Keys of revocations whose tokens can still be presented
+     */
+    @Query("SELECT DISTINCT r.tokenKey FROM RevokedToken r WHERE r.expiresAt >= :now")
+    List<String> findLiveKeys(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,64 @@
+package com.bookmyhotel.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.Room;
+
+/**
+ * JDBC batch operations on rooms.
+ * Room ids are IDENTITY-generated, so Hibernate cannot batch their inserts.
+ */
+@Repository
+public class RoomJdbcRepository {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO rooms (tenant_id, hotel_id, room_number, room_type, price_per_night, capacity, " +
+        "description, is_available, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert rooms in a single JDBC batch
+     */
+    public void batchInsert(List<Room> rooms) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Room room = rooms.get(i);
+                ps.setString(1, room.getTenantId());
+                ps.setLong(2, room.getHotel().getId());
+                ps.setString(3, room.getRoomNumber());
+                ps.setString(4, room.getRoomType().name());
+                ps.setBigDecimal(5, room.getPricePerNight());
+                ps.setInt(6, room.getCapacity());
+                if (room.getDescription() != null) {
+                    ps.setString(7, room.getDescription());
+                } else {
+                    ps.setNull(7, Types.VARCHAR);
+                }
+                ps.setBoolean(8, room.getIsAvailable());
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return rooms.size();
+            }
+        });
+    }
+}
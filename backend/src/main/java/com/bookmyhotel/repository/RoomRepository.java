@@ -1,15 +1,26 @@
 package com.bookmyhotel.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bookmyhotel.entity.Hotel;
 import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+
+import jakarta.persistence.LockModeType;
 
 /**
  * Room repository
@@ -17,6 +28,99 @@ import com.bookmyhotel.entity.Room;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     
+    String HOTEL_ROOM_SEARCH = "SELECT r FROM Room r WHERE r.hotel = :hotel " +
+           "AND (:roomType IS NULL OR r.roomType = :roomType) " +
+           "AND (:available IS NULL OR r.isAvailable = :available) " +
+           "AND (:pattern IS NULL OR LOWER(r.roomNumber) LIKE :pattern OR LOWER(r.description) LIKE :pattern)";
+    
+    /**
+     * Page through a hotel's rooms, optionally filtered by type, availability and
+     * a lower-cased LIKE pattern on room number or description
+     */
+    @Query(HOTEL_ROOM_SEARCH)
+    Page<Room> searchHotelRooms(@Param("hotel") Hotel hotel,
+                                @Param("roomType") RoomType roomType,
+                                @Param("available") Boolean available,
+                                @Param("pattern") String pattern,
+                                Pageable pageable);
+    
+    /**
+     * Same filters as {@link #searchHotelRooms} without the count query
+     */
+    @Query(HOTEL_ROOM_SEARCH)
+    Slice<Room> sliceHotelRooms(@Param("hotel") Hotel hotel,
+                                @Param("roomType") RoomType roomType,
+                                @Param("available") Boolean available,
+                                @Param("pattern") String pattern,
+                                Pageable pageable);
+    
+    String HOTEL_ROOM_TARGETS = "SELECT r.id AS id, r.roomType AS roomType, r.isAvailable AS isAvailable " +
+           "FROM Room r WHERE r.hotel = :hotel " +
+           "AND (:roomType IS NULL OR r.roomType = :roomType) " +
+           "AND (:prefix IS NULL OR r.roomNumber LIKE :prefix ESCAPE '!')";
+    
+    /**
+     * Id, type and availability of a room selected for a bulk update
+     */
+    interface RoomTarget {
+        Long getId();
+        RoomType getRoomType();
+        Boolean getIsAvailable();
+    }
+    
+    /**
+     * Select a hotel's rooms by type and room number prefix pattern for a bulk update
+     */
+    @Query(HOTEL_ROOM_TARGETS + " ORDER BY r.id")
+    List<RoomTarget> findTargets(@Param("hotel") Hotel hotel,
+                                 @Param("roomType") RoomType roomType,
+                                 @Param("prefix") String prefix);
+    
+    /**
+     * Same as {@link #findTargets} restricted to the given room ids
+     */
+    @Query(HOTEL_ROOM_TARGETS + " AND r.id IN :roomIds ORDER BY r.id")
+    List<RoomTarget> findTargetsByIds(@Param("hotel") Hotel hotel,
+                                      @Param("roomType") RoomType roomType,
+                                      @Param("prefix") String prefix,
+                                      @Param("roomIds") Collection<Long> roomIds);
+    
+    /**
+     * Set the nightly price of many rooms in one statement
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.pricePerNight = :price, r.updatedAt = :now WHERE r.id IN :roomIds")
+    int updatePrice(@Param("roomIds") Collection<Long> roomIds,
+                    @Param("price") BigDecimal price,
+                    @Param("now") LocalDateTime now);
+    
+    /**
+     * Multiply the nightly price of many rooms in one statement
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.pricePerNight = r.pricePerNight * :factor, r.updatedAt = :now WHERE r.id IN :roomIds")
+    int scalePrice(@Param("roomIds") Collection<Long> roomIds,
+                   @Param("factor") BigDecimal factor,
+                   @Param("now") LocalDateTime now);
+    
+    /**
+     * Set the availability of many rooms in one statement
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.isAvailable = :available, r.updatedAt = :now WHERE r.id IN :roomIds")
+    int updateAvailability(@Param("roomIds") Collection<Long> roomIds,
+                           @Param("available") Boolean available,
+                           @Param("now") LocalDateTime now);
+    
+    /**
+     * Set the description of many rooms in one statement
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.description = :description, r.updatedAt = :now WHERE r.id IN :roomIds")
+    int updateDescription(@Param("roomIds") Collection<Long> roomIds,
+                          @Param("description") String description,
+                          @Param("now") LocalDateTime now);
+    
     /**
      * Find available rooms for a hotel within date range
      */
@@ -27,7 +131,8 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
            "AND (:roomType IS NULL OR r.roomType = :roomType) " +
            "AND r.id NOT IN (" +
            "  SELECT res.room.id FROM Reservation res " +
-           "  WHERE res.status NOT IN ('CANCELLED', 'NO_SHOW') " +
+           "  WHERE res.room IS NOT NULL " +
+           "  AND res.status NOT IN ('CANCELLED', 'NO_SHOW') " +
            "  AND NOT (res.checkOutDate <= :checkInDate OR res.checkInDate >= :checkOutDate)" +
            ")")
     List<Room> findAvailableRooms(
@@ -76,6 +181,12 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     boolean existsByHotelAndRoomNumber(Hotel hotel, String roomNumber);
     
+    /**
+     * All room numbers of a hotel
+     */
+    @Query("SELECT r.roomNumber FROM Room r WHERE r.hotel.id = :hotelId")
+    List<String> findRoomNumbersByHotelId(@Param("hotelId") Long hotelId);
+    
     /**
      * Count rooms by hotel
      */
@@ -85,4 +196,38 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * Count available rooms
      */
     long countByIsAvailable(Boolean isAvailable);
+    
+    /**
+     * Find rooms by id and lock them for the rest of the transaction.
+     * Ordered by id so concurrent multi-room bookings lock in the same order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :roomIds ORDER BY r.id")
+    List<Room> findAllByIdForUpdate(@Param("roomIds") Collection<Long> roomIds);
+    
+    /**
+     * Count sellable rooms of a type at a hotel
+     */
+    long countByHotelIdAndRoomTypeAndIsAvailableTrue(Long hotelId, RoomType roomType);
+    
+    /**
+     * Find rooms of a type at a hotel with no assigned reservation overlapping the stay
+     */
+    @Query("SELECT r FROM Room r " +
+           "WHERE r.hotel.id = :hotelId " +
+           "AND r.roomType = :roomType " +
+           "AND r.isAvailable = true " +
+           "AND NOT EXISTS (" +
+           "  SELECT 1 FROM Reservation res " +
+           "  WHERE res.room = r " +
+           "  AND res.status NOT IN ('CANCELLED', 'NO_SHOW') " +
+           "  AND res.checkOutDate > :checkInDate AND res.checkInDate < :checkOutDate" +
+           ") " +
+           "ORDER BY r.id")
+    List<Room> findAssignableRooms(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") RoomType roomType,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate
+    );
 }
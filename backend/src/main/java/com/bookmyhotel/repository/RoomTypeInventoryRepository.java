@@ -0,0 +1,97 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.RoomTypeInventory;
+
+/**
+ * Room type inventory repository.
+ * Counter updates are single conditional UPDATE statements so concurrent
+ * bookings only contend on the nights they share.
+ */
+@Repository
+public interface RoomTypeInventoryRepository extends JpaRepository<RoomTypeInventory, Long> {
+    
+    /**
+     * Nights in [fromDate, toDate) that already have a counter row
+     */
+    @Query(value = "SELECT stay_date FROM room_type_inventory " +
+                   "WHERE hotel_id = :hotelId AND room_type = :roomType " +
+                   "AND stay_date >= :fromDate AND stay_date < :toDate",
+           nativeQuery = true)
+    List<java.sql.Date> findStayDates(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") String roomType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * Seed a counter row unless another transaction already did
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO room_type_inventory (hotel_id, room_type, stay_date, capacity, booked, updated_at) " +
+                   "VALUES (:hotelId, :roomType, :stayDate, :capacity, :booked, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertIfAbsent(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") String roomType,
+        @Param("stayDate") LocalDate stayDate,
+        @Param("capacity") int capacity,
+        @Param("booked") int booked
+    );
+    
+    /**
+     * Take one room on every night in [fromDate, toDate) that still has space.
+     * Returns the number of nights taken; fewer than the stay length means sold out.
+     */
+    @Modifying
+    @Query(value = "UPDATE room_type_inventory SET booked = booked + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE hotel_id = :hotelId AND room_type = :roomType " +
+                   "AND stay_date >= :fromDate AND stay_date < :toDate " +
+                   "AND booked < capacity",
+           nativeQuery = true)
+    int reserve(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") String roomType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * Give back one room on every night in [fromDate, toDate)
+     */
+    @Modifying
+    @Query(value = "UPDATE room_type_inventory SET booked = booked - 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE hotel_id = :hotelId AND room_type = :roomType " +
+                   "AND stay_date >= :fromDate AND stay_date < :toDate " +
+                   "AND booked > 0",
+           nativeQuery = true)
+    int release(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") String roomType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+    
+    /**
+     * Add or remove sellable rooms on every seeded night from a date onwards
+     */
+    @Modifying
+    @Query(value = "UPDATE room_type_inventory SET capacity = GREATEST(capacity + :delta, 0), updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE hotel_id = :hotelId AND room_type = :roomType AND stay_date >= :fromDate",
+           nativeQuery = true)
+    int adjustCapacity(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") String roomType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("delta") int delta
+    );
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -70,4 +71,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.hotel = :hotel AND EXISTS (SELECT 1 FROM u.roles r WHERE r IN :roles)")
     List<User> findByHotelAndRolesContaining(@Param("hotel") Hotel hotel, @Param("roles") List<UserRole> roles);
     
+    /**
+     * Page through a hotel's staff, optionally filtered by a lower-cased LIKE
+     * pattern on name or email and by a single role
+     */
+    @Query("SELECT u FROM User u WHERE u.hotel = :hotel " +
+           "AND EXISTS (SELECT 1 FROM u.roles r WHERE r IN :roles) " +
+           "AND (:role IS NULL OR :role MEMBER OF u.roles) " +
+           "AND (:pattern IS NULL OR LOWER(u.firstName) LIKE :pattern " +
+           "OR LOWER(u.lastName) LIKE :pattern OR LOWER(u.email) LIKE :pattern)")
+    Page<User> searchHotelStaff(@Param("hotel") Hotel hotel,
+                                @Param("roles") List<UserRole> roles,
+                                @Param("role") UserRole role,
+                                @Param("pattern") String pattern,
+                                Pageable pageable);
+    
+    
+    /**
+     * Insert a passwordless guest unless one already exists for the email.
+     * Relies on the (tenant_id, email) unique index, so concurrent bookings
+     * for the same new guest cannot create duplicates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO users (tenant_id, email, first_name, last_name, phone, is_active, created_at, updated_at) " +
+                   "VALUES (:tenantId, :email, :firstName, :lastName, :phone, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int insertGuestIfAbsent(@Param("tenantId") String tenantId,
+                            @Param("email") String email,
+                            @Param("firstName") String firstName,
+                            @Param("lastName") String lastName,
+                            @Param("phone") String phone);
+    
+    /**
+     * Grant the GUEST role to a guest inserted by {@link #insertGuestIfAbsent}
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_roles (user_id, role) " +
+                   "SELECT id, 'GUEST' FROM users WHERE tenant_id = :tenantId AND email = :email",
+           nativeQuery = true)
+    int insertGuestRoleIfAbsent(@Param("tenantId") String tenantId, @Param("email") String email);
 }
@@ -0,0 +1,42 @@
+package com.bookmyhotel.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.entity.WaitlistEntry;
+
+/**
+ * Waitlist entry repository
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    /**
+     * Waiting requests whose stay overlaps [fromDate, toDate), oldest first.
+     * The check-in lower bound limits the index range scan to stays no longer than maxNights.
+     */
+    @Query("SELECT w FROM WaitlistEntry w " +
+           "WHERE w.hotelId = :hotelId AND w.roomType = :roomType " +
+           "AND w.status = com.bookmyhotel.entity.WaitlistStatus.WAITING " +
+           "AND w.checkInDate < :toDate AND w.checkInDate >= :earliestCheckIn " +
+           "AND w.checkOutDate > :fromDate " +
+           "ORDER BY w.createdAt, w.id")
+    List<WaitlistEntry> findWaitingOverlapping(
+        @Param("hotelId") Long hotelId,
+        @Param("roomType") RoomType roomType,
+        @Param("earliestCheckIn") LocalDate earliestCheckIn,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        Pageable pageable
+    );
+    
+    Optional<WaitlistEntry> findByReservationId(Long reservationId);
+}
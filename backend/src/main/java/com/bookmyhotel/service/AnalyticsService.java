@@ -0,0 +1,169 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.dto.OccupancyReportDTO;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.RoomRepository;
+
+/**
+ * Occupancy, ADR and RevPAR from per-hotel occupancy cubes.
+ * A hotel's cube is built on first use by the first caller, with later callers
+ * waiting on its future, kept current from committed reservation changes and
+ * rebuilt when its window moves on a new day.
+ * Capacity is today's sellable room count, applied to every night in the window.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsService {
+    
+    private static final Set<ReservationStatus> SOLD_STATUSES = EnumSet.of(
+        ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Value("${app.analytics.history-days:730}")
+    private int historyDays;
+    
+    @Value("${app.analytics.horizon-days:400}")
+    private int horizonDays;
+    
+    private final Map<Long, CompletableFuture<OccupancyCube>> cubes = new ConcurrentHashMap<>();
+    
+    /**
+     * KPIs for nights in [fromDate, toDate), for one room type or all when null
+     */
+    public OccupancyReportDTO getOccupancy(Long hotelId, RoomType roomType, LocalDate fromDate, LocalDate toDate) {
+        if (!fromDate.isBefore(toDate)) {
+            throw new BookingException("From date must be before to date");
+        }
+        
+        OccupancyCube.OccupancyKpi kpi = getCube(hotelId).query(roomType, fromDate, toDate);
+        
+        OccupancyReportDTO report = new OccupancyReportDTO();
+        report.setHotelId(hotelId);
+        report.setRoomType(roomType);
+        report.setFromDate(fromDate);
+        report.setToDate(toDate);
+        report.setRoomNightsAvailable(kpi.getRoomNightsAvailable());
+        report.setRoomNightsSold(kpi.getRoomNightsSold());
+        report.setRevenue(kpi.getRevenue());
+        report.setOccupancyRate(kpi.getOccupancyRate());
+        report.setAdr(kpi.getAdr());
+        report.setRevpar(kpi.getRevpar());
+        return report;
+    }
+    
+    /**
+     * Apply a committed reservation change to the hotel's cube, if it has one.
+     * A change arriving while the cube is being built is applied once the build
+     * finishes rather than lost; applying a change the build already saw is harmless.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        CompletableFuture<OccupancyCube> future = cubes.get(event.getHotelId());
+        if (future == null) {
+            return;
+        }
+        
+        Reservation reservation = reservationRepository.findById(event.getReservationId()).orElse(null);
+        if (reservation == null || !SOLD_STATUSES.contains(reservation.getStatus())) {
+            future.thenAccept(cube -> cube.remove(event.getReservationId()));
+        } else {
+            RoomType roomType = reservation.getRoomType();
+            LocalDate checkInDate = reservation.getCheckInDate();
+            LocalDate checkOutDate = reservation.getCheckOutDate();
+            BigDecimal totalAmount = reservation.getTotalAmount();
+            future.thenAccept(cube -> cube.put(event.getReservationId(), roomType, checkInDate, checkOutDate, totalAmount));
+        }
+    }
+    
+    /**
+     * Room additions and removals change capacity; rebuild on next use
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomInventoryChanged(RoomInventoryChangedEvent event) {
+        cubes.remove(event.getHotelId());
+    }
+    
+    /**
+     * The hotel's current cube. The map only ever swaps in an unfinished future,
+     * so the build itself runs outside any map lock and other hotels are never held up.
+     */
+    private OccupancyCube getCube(Long hotelId) {
+        LocalDate startDate = LocalDate.now().minusDays(historyDays);
+        CompletableFuture<OccupancyCube> future = cubes.get(hotelId);
+        if (future == null || isStale(future, startDate)) {
+            CompletableFuture<OccupancyCube> created = new CompletableFuture<>();
+            future = cubes.compute(hotelId, (id, current) ->
+                current != null && !isStale(current, startDate) ? current : created);
+            if (future == created) {
+                try {
+                    created.complete(build(hotelId, startDate));
+                } catch (RuntimeException e) {
+                    cubes.remove(hotelId, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+    
+    /**
+     * A finished cube whose window starts on another day; a failed build counts as stale
+     */
+    private boolean isStale(CompletableFuture<OccupancyCube> future, LocalDate startDate) {
+        if (!future.isDone()) {
+            return false;
+        }
+        return future.isCompletedExceptionally() || !future.join().getStartDate().equals(startDate);
+    }
+    
+    private OccupancyCube build(Long hotelId, LocalDate startDate) {
+        int days = historyDays + horizonDays;
+        int[] capacity = new int[RoomType.values().length];
+        for (Room room : roomRepository.findByHotelIdAndIsAvailableTrue(hotelId)) {
+            capacity[room.getRoomType().ordinal()]++;
+        }
+        
+        OccupancyCube cube = new OccupancyCube(startDate, days, capacity);
+        for (Reservation reservation : reservationRepository.findByHotelAndStatusInRange(
+                hotelId, SOLD_STATUSES, startDate, startDate.plusDays(days))) {
+            cube.put(reservation.getId(), reservation.getRoomType(),
+                reservation.getCheckInDate(), reservation.getCheckOutDate(), reservation.getTotalAmount());
+        }
+        return cube;
+    }
+}
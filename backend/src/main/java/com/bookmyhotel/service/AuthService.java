@@ -1,18 +1,37 @@
 package com.bookmyhotel.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.bookmyhotel.dto.auth.ClaimAccountRequest;
+import com.bookmyhotel.dto.auth.ClaimStartRequest;
 import com.bookmyhotel.dto.auth.LoginRequest;
 import com.bookmyhotel.dto.auth.LoginResponse;
+import com.bookmyhotel.entity.RefreshToken;
 import com.bookmyhotel.entity.User;
+import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.exception.TooManyRequestsException;
+import com.bookmyhotel.notification.EmailSender;
+import com.bookmyhotel.ratelimit.ClaimThrottle;
+import com.bookmyhotel.ratelimit.LoginThrottle;
 import com.bookmyhotel.repository.UserRepository;
 import com.bookmyhotel.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
 /**
  * Authentication service for user login and token management
  */
@@ -23,18 +42,47 @@ public class AuthService {
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private EmailSender emailSender;
+    
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private LoginThrottle loginThrottle;
+    
+    @Autowired
+    private ClaimThrottle claimThrottle;
     
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    private static final String GUEST_TENANT_ID = "guest";
+    
+    /** Password every guest account used to be created with; anyone could know it */
+    private static final String SHARED_GUEST_PASSWORD = "guestpassword123";
+    
+    @Value("${app.auth.claim-token-ttl-minutes:30}")
+    private long claimTokenTtlMinutes;
+    
+    private final SecureRandom random = new SecureRandom();
+    
     /**
-     * Authenticate user and generate JWT token
+     * Authenticate user and generate JWT token.
+     * Throttled accounts and IPs are refused before any password is hashed.
      */
-    public LoginResponse login(LoginRequest loginRequest) {
+    public LoginResponse login(LoginRequest loginRequest, String clientIp) {
+        checkThrottle(loginRequest.getEmail(), clientIp);
+        
         Optional<User> userOpt = userRepository.findByEmail(loginRequest.getEmail());
         
         if (userOpt.isEmpty()) {
+            loginThrottle.recordFailure(loginRequest.getEmail(), clientIp);
             throw new BadCredentialsException("Invalid email or password");
         }
         
@@ -44,10 +92,147 @@ public class AuthService {
             throw new BadCredentialsException("Account is deactivated");
         }
         
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        // Unclaimed guest accounts have no password to check against
+        if (!user.isClaimed() || !passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())) {
+            loginThrottle.recordFailure(loginRequest.getEmail(), clientIp);
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        
+        // A guest still on the shared password gets no session; the account must be claimed by email
+        if (SHARED_GUEST_PASSWORD.equals(loginRequest.getPassword()) && isBookingGuest(user)) {
+            user.setPassword(null);
+            userRepository.save(user);
+            loginThrottle.recordFailure(loginRequest.getEmail(), clientIp);
             throw new BadCredentialsException("Invalid email or password");
         }
         
+        return buildLoginResponse(user, refreshTokenService.issue(user.getId()));
+    }
+    
+    /**
+     * Email a one-time claim token to an unclaimed guest account.
+     * Requests are throttled per account and IP apart from sign-in failures, and the
+     * response is the same whether or not the account exists.
+     */
+    @Transactional
+    public void startGuestAccountClaim(ClaimStartRequest request, String clientIp) {
+        long retryAfter = claimThrottle.acquire(request.getEmail(), clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many claim code requests, please try again later", retryAfter);
+        }
+        
+        Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
+        if (userOpt.isEmpty() || !userOpt.get().getIsActive() || !isUnclaimed(userOpt.get())) {
+            return;
+        }
+        
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        User user = userOpt.get();
+        user.setClaimTokenHash(hash(token));
+        user.setClaimTokenExpiresAt(LocalDateTime.now().plusMinutes(claimTokenTtlMinutes));
+        userRepository.save(user);
+        
+        emailSender.send(user.getEmail(), "Set up your BookMyHotel account",
+            "Use this code within " + claimTokenTtlMinutes + " minutes to set your password: " + token);
+    }
+    
+    /**
+     * Claim a guest account with the token emailed to it and set its password
+     */
+    @Transactional
+    public LoginResponse claimGuestAccount(ClaimAccountRequest request, String clientIp) {
+        checkThrottle(request.getEmail(), clientIp);
+        
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null || user.getClaimTokenHash() == null
+                || user.getClaimTokenExpiresAt().isBefore(LocalDateTime.now())
+                || !MessageDigest.isEqual(user.getClaimTokenHash().getBytes(StandardCharsets.US_ASCII),
+                                          hash(request.getToken()).getBytes(StandardCharsets.US_ASCII))
+                || !isUnclaimed(user)) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
+            throw new BadCredentialsException("Invalid or expired claim token");
+        }
+        
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
+        user.setClaimTokenHash(null);
+        user.setClaimTokenExpiresAt(null);
+        user = userRepository.save(user);
+        
+        return buildLoginResponse(user, refreshTokenService.issue(user.getId()));
+    }
+    
+    /**
+     * Exchange a refresh token for a new access token and the next refresh token.
+     * The user is reloaded so the new access token carries current roles and hotel.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public LoginResponse refresh(String refreshToken) {
+        RefreshToken current = refreshTokenService.consume(refreshToken);
+        
+        User user = userRepository.findById(current.getUserId())
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        if (!user.getIsActive()) {
+            throw new BadCredentialsException("Account is deactivated");
+        }
+        
+        return buildLoginResponse(user, refreshTokenService.issue(user.getId(), current.getFamilyId()));
+    }
+    
+    /**
+     * End a login: revoke its refresh token family and the access token presented with it
+     */
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revokeFamily(refreshToken);
+        }
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtUtil.verify(accessToken);
+                tokenRevocationService.revokeToken(claims);
+            } catch (JwtException | IllegalArgumentException e) {
+                // Expired or invalid access tokens are already unusable
+            }
+        }
+    }
+    
+    /**
+     * Whether the account has no password of its own: none at all, or the old shared guest password
+     */
+    private boolean isUnclaimed(User user) {
+        return !user.isClaimed()
+            || (isBookingGuest(user) && passwordHashingService.matches(SHARED_GUEST_PASSWORD, user.getPassword()));
+    }
+    
+    /**
+     * Guest account created by the booking flow, the only kind that got the shared password
+     */
+    private static boolean isBookingGuest(User user) {
+        return GUEST_TENANT_ID.equals(user.getTenantId()) && user.getRoles().contains(UserRole.GUEST);
+    }
+    
+    private void checkThrottle(String email, String clientIp) {
+        long retryAfter = loginThrottle.retryAfter(email, clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many failed sign-in attempts, please try again later", retryAfter);
+        }
+    }
+    
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Issue an access token and build the login response for an authenticated user
+     */
+    private LoginResponse buildLoginResponse(User user, String refreshToken) {
         String token = jwtUtil.generateToken(user);
         
         // Include hotel information if user is associated with a hotel
@@ -58,7 +243,7 @@ public class AuthService {
             hotelName = user.getHotel().getName();
         }
         
-        return new LoginResponse(
+        LoginResponse response = new LoginResponse(
             token,
             user.getId(),
             user.getEmail(),
@@ -68,6 +253,9 @@ public class AuthService {
             hotelId,
             hotelName
         );
+        response.setRefreshToken(refreshToken);
+        response.setExpiresIn(jwtUtil.getExpiration() / 1000);
+        return response;
     }
     
     /**
@@ -0,0 +1,62 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.bookmyhotel.dto.BookingDateChangeRequest;
+import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.PaymentException;
+import com.bookmyhotel.payment.PaymentGateway;
+
+/**
+ * Moves bookings to new dates, taking any extra payment outside the locked transaction.
+ * The charge is made first and a held-back refund of it committed straight away; the
+ * date change then adopts the charge and drops that refund in the same commit. If the
+ * change fails, the refund is released, so the guest is never charged for a change
+ * that did not happen.
+ */
+@Service
+public class BookingDateChangeService {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private RefundService refundService;
+    
+    @Autowired
+    private PaymentGateway paymentGateway;
+    
+    /**
+     * Move a booking to new dates for its guest or the hotel's staff,
+     * charging first when a paid booking gets more expensive
+     */
+    public BookingResponse changeBookingDates(Long reservationId, BookingDateChangeRequest request, Long callerId) {
+        BigDecimal charge = bookingService.quoteDateChangeCharge(reservationId, request, callerId);
+        if (charge == null) {
+            return bookingService.changeBookingDates(reservationId, request, null, callerId);
+        }
+        if (request.getPaymentMethodId() == null) {
+            throw new BookingException("Payment method is required for the price difference");
+        }
+        
+        String paymentIntentId;
+        try {
+            paymentIntentId = paymentGateway.charge(charge, request.getPaymentMethodId());
+        } catch (PaymentException e) {
+            throw new BookingException("Payment processing failed: " + e.getMessage(), e);
+        }
+        
+        RefundJob compensation = refundService.enqueueCompensation(reservationId, paymentIntentId, charge);
+        try {
+            return bookingService.changeBookingDates(reservationId, request, compensation, callerId);
+        } catch (RuntimeException e) {
+            refundService.releaseNow(compensation.getId());
+            throw e;
+        }
+    }
+}
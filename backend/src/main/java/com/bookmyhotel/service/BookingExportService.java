@@ -0,0 +1,94 @@
+package com.bookmyhotel.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.ReservationRepository.BookingExportRow;
+
+/**
+ * Writes a hotel's bookings as CSV straight from a streaming query.
+ * Rows are read-only projections, so nothing accumulates in the persistence
+ * context and memory stays flat however many bookings are exported.
+ */
+@Service
+public class BookingExportService {
+
+    private static final String HEADER = "confirmationNumber,checkInDate,checkOutDate,status,roomType,roomNumber," +
+        "guestFirstName,guestLastName,guestEmail,totalAmount,createdAt";
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    /**
+     * Write the bookings with check-in in [from, to) to the output stream; null bounds are open
+     */
+    @Transactional(readOnly = true)
+    public void exportBookings(Long hotelId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+
+        try (Stream<BookingExportRow> rows = reservationRepository.streamHotelBookings(hotelId, from, to)) {
+            Iterator<BookingExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, iterator.next());
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, BookingExportRow row) throws IOException {
+        writer.write(field(row.getConfirmationNumber()));
+        writer.write(',');
+        writer.write(field(row.getCheckInDate()));
+        writer.write(',');
+        writer.write(field(row.getCheckOutDate()));
+        writer.write(',');
+        writer.write(field(row.getStatus()));
+        writer.write(',');
+        writer.write(field(row.getRoomType()));
+        writer.write(',');
+        writer.write(field(row.getRoomNumber()));
+        writer.write(',');
+        writer.write(field(row.getGuestFirstName()));
+        writer.write(',');
+        writer.write(field(row.getGuestLastName()));
+        writer.write(',');
+        writer.write(field(row.getGuestEmail()));
+        writer.write(',');
+        writer.write(field(row.getTotalAmount() != null ? row.getTotalAmount().toPlainString() : null));
+        writer.write(',');
+        writer.write(field(row.getCreatedAt()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV field, quoted when it holds a delimiter or quote and guarded against
+     * spreadsheet formula injection
+     */
+    static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
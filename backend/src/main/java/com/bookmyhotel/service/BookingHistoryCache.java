@@ -0,0 +1,41 @@
+package com.bookmyhotel.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.CursorPage;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded per-guest cache of the first booking history page.
+ * Entries are dropped once any change to one of the guest's reservations commits.
+ */
+@Component
+public class BookingHistoryCache {
+    
+    private final Cache<Long, CursorPage<BookingResponse>> firstPages;
+    
+    public BookingHistoryCache(@Value("${app.booking.history.cache-size:10000}") long maximumSize,
+                               @Value("${app.booking.history.cache-ttl-minutes:10}") long ttlMinutes) {
+        this.firstPages = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+    
+    public CursorPage<BookingResponse> getFirstPage(Long guestId, Function<Long, CursorPage<BookingResponse>> loader) {
+        return firstPages.get(guestId, loader);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        firstPages.invalidate(event.getGuestId());
+    }
+}
@@ -1,35 +1,53 @@
 package com.bookmyhotel.service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.bookmyhotel.dto.BookingDateChangeRequest;
 import com.bookmyhotel.dto.BookingRequest;
 import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.CursorPage;
+import com.bookmyhotel.dto.GroupBookingRequest;
+import com.bookmyhotel.dto.GroupBookingResponse;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.RefundJob;
 import com.bookmyhotel.entity.Reservation;
 import com.bookmyhotel.entity.ReservationStatus;
 import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
 import com.bookmyhotel.entity.User;
 import com.bookmyhotel.entity.UserRole;
 import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.PaymentException;
+import com.bookmyhotel.payment.PaymentGateway;
 import com.bookmyhotel.exception.ResourceNotFoundException;
+import com.bookmyhotel.repository.HotelRepository;
+import com.bookmyhotel.repository.ReservationJdbcRepository;
 import com.bookmyhotel.repository.ReservationRepository;
 import com.bookmyhotel.repository.RoomRepository;
 import com.bookmyhotel.repository.UserRepository;
 import com.bookmyhotel.tenant.TenantContext;
-import com.stripe.Stripe;
-import com.stripe.exception.StripeException;
-import com.stripe.model.PaymentIntent;
-import com.stripe.param.PaymentIntentCreateParams;
 
 /**
  * Booking service
@@ -38,20 +56,49 @@ import com.stripe.param.PaymentIntentCreateParams;
 @Transactional
 public class BookingService {
     
+    private static final String GUEST_TENANT_ID = "guest";
+    
+    private static final int HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    
+    private static final Set<UserRole> HOTEL_STAFF_ROLES = EnumSet.of(
+        UserRole.FRONTDESK, UserRole.HOTEL_ADMIN, UserRole.HOTEL_MANAGER);
+    
     @Autowired
     private ReservationRepository reservationRepository;
     
+    @Autowired
+    private ReservationJdbcRepository reservationJdbcRepository;
+    
     @Autowired
     private RoomRepository roomRepository;
     
+    @Autowired
+    private HotelRepository hotelRepository;
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private InventoryService inventoryService;
+    
+    @Autowired
+    private PricingService pricingService;
+    
+    @Autowired
+    private ConfirmationNumberGenerator confirmationNumberGenerator;
+    
+    @Autowired
+    private BookingHistoryCache bookingHistoryCache;
+    
+    @Autowired
+    private ReservationStateMachine reservationStateMachine;
     
-    @Value("${stripe.api.key:}")
-    private String stripeApiKey;
+    @Autowired
+    private PaymentGateway paymentGateway;
+    
+    @Autowired
+    private RefundService refundService;
     
     /**
      * Create a new booking
@@ -59,36 +106,59 @@ public class BookingService {
     public BookingResponse createBooking(BookingRequest request) {
         try {
             // Set tenant context for guest bookings
-            TenantContext.setTenantId("guest");
+            TenantContext.setTenantId(GUEST_TENANT_ID);
             
             // Validate booking request
             validateBookingRequest(request);
             
-            // Get room details
-            Room room = roomRepository.findById(request.getRoomId())
-                .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + request.getRoomId()));
-            
-            // Check room availability
-            if (!roomRepository.isRoomAvailable(request.getRoomId(), request.getCheckInDate(), request.getCheckOutDate())) {
-                throw new BookingException("Room is not available for the selected dates");
+            Reservation reservation;
+            BigDecimal totalAmount;
+            if (request.getRoomId() != null) {
+                // Get room details
+                Room room = roomRepository.findById(request.getRoomId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + request.getRoomId()));
+                
+                // Check room availability
+                if (!roomRepository.isRoomAvailable(request.getRoomId(), request.getCheckInDate(), request.getCheckOutDate())) {
+                    throw new BookingException("Room is not available for the selected dates");
+                }
+                
+                // Hold the room type's inventory for the stay
+                inventoryService.reserve(room.getHotel().getId(), room.getRoomType(),
+                    request.getCheckInDate(), request.getCheckOutDate());
+                
+                // Get or create guest user
+                User guest = getOrCreateGuest(request.getGuestEmail(), request.getGuestName(), request.getGuestPhone());
+                
+                // Calculate total amount
+                totalAmount = calculateTotalAmount(room, request.getCheckInDate(), request.getCheckOutDate());
+                
+                // Create reservation
+                reservation = createReservation(room.getHotel(), room.getRoomType(), room, guest,
+                    request.getCheckInDate(), request.getCheckOutDate(), totalAmount, request.getSpecialRequests());
+            } else {
+                Hotel hotel = hotelRepository.findById(request.getHotelId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + request.getHotelId()));
+                
+                // Room-type booking: only the per-night counters are checked, the room is assigned later
+                inventoryService.reserve(hotel.getId(), request.getRoomType(),
+                    request.getCheckInDate(), request.getCheckOutDate());
+                
+                User guest = getOrCreateGuest(request.getGuestEmail(), request.getGuestName(), request.getGuestPhone());
+                
+                totalAmount = calculateTotalAmount(hotel, request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate());
+                
+                reservation = createReservation(hotel, request.getRoomType(), null, guest,
+                    request.getCheckInDate(), request.getCheckOutDate(), totalAmount, request.getSpecialRequests());
             }
             
-            // Get or create guest user
-            User guest = getOrCreateGuest(request);
-            
-            // Calculate total amount
-            BigDecimal totalAmount = calculateTotalAmount(room, request);
-            
-            // Create reservation
-            Reservation reservation = createReservation(request, room, guest, totalAmount);
-            
             // Process payment if payment method provided
             if (request.getPaymentMethodId() != null) {
                 try {
-                    String paymentIntentId = processPayment(totalAmount, request.getPaymentMethodId());
+                    String paymentIntentId = paymentGateway.charge(totalAmount, request.getPaymentMethodId());
                     reservation.setPaymentIntentId(paymentIntentId);
                     reservation.setStatus(ReservationStatus.CONFIRMED);
-                } catch (StripeException e) {
+                } catch (PaymentException e) {
                     reservation.setStatus(ReservationStatus.PENDING);
                     throw new BookingException("Payment processing failed: " + e.getMessage(), e);
                 }
@@ -96,6 +166,7 @@ public class BookingService {
             
             // Save reservation
             reservation = reservationRepository.save(reservation);
+            reservationStateMachine.onCreated(reservation);
             
             // Convert to response DTO
             return convertToBookingResponse(reservation);
@@ -105,6 +176,135 @@ public class BookingService {
         }
     }
     
+    /**
+     * Price of a group booking, for GroupBookingService to charge before the locked insert
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal quoteGroupBooking(GroupBookingRequest request) {
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<Long, Room> rooms = new HashMap<>();
+        for (GroupBookingRequest.Item item : request.getItems()) {
+            validateStay(item.getCheckInDate(), item.getCheckOutDate(), item.getGuests());
+            Room room = rooms.computeIfAbsent(item.getRoomId(), roomId -> roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId)));
+            totalAmount = totalAmount.add(calculateTotalAmount(room, item.getCheckInDate(), item.getCheckOutDate()));
+        }
+        return totalAmount;
+    }
+    
+    /**
+     * Create several bookings for one guest atomically, without calling the payment provider.
+     * Rooms are locked in id order, availability for every item is checked with a
+     * single query and the reservations are written in one JDBC batch. A paid group
+     * needs the compensating refund of a charge for exactly its total, taken beforehand;
+     * the bookings adopt the charge and drop the compensation in the same commit.
+     */
+    public GroupBookingResponse createGroupBooking(GroupBookingRequest request, RefundJob payment) {
+        try {
+            // Set tenant context for guest bookings
+            TenantContext.setTenantId(GUEST_TENANT_ID);
+            
+            List<GroupBookingRequest.Item> items = request.getItems();
+            for (GroupBookingRequest.Item item : items) {
+                validateStay(item.getCheckInDate(), item.getCheckOutDate(), item.getGuests());
+            }
+            
+            // Lock all requested rooms up front
+            Set<Long> roomIds = items.stream()
+                .map(GroupBookingRequest.Item::getRoomId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Long, Room> rooms = roomRepository.findAllByIdForUpdate(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+            for (Long roomId : roomIds) {
+                if (!rooms.containsKey(roomId)) {
+                    throw new ResourceNotFoundException("Room not found with id: " + roomId);
+                }
+            }
+            
+            // One availability query covering every item
+            LocalDate fromDate = items.stream().map(GroupBookingRequest.Item::getCheckInDate)
+                .min(Comparator.naturalOrder()).orElseThrow();
+            LocalDate toDate = items.stream().map(GroupBookingRequest.Item::getCheckOutDate)
+                .max(Comparator.naturalOrder()).orElseThrow();
+            Map<Long, List<Reservation>> occupied = new HashMap<>();
+            for (Reservation existing : reservationRepository.findActiveByRoomIdsInRange(roomIds, fromDate, toDate)) {
+                occupied.computeIfAbsent(existing.getRoom().getId(), id -> new ArrayList<>()).add(existing);
+            }
+            
+            User guest = getOrCreateGuest(request.getGuestEmail(), request.getGuestName(), request.getGuestPhone());
+            
+            List<Reservation> reservations = new ArrayList<>(items.size());
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            for (int i = 0; i < items.size(); i++) {
+                GroupBookingRequest.Item item = items.get(i);
+                Room room = rooms.get(item.getRoomId());
+                List<Reservation> roomReservations = occupied.computeIfAbsent(room.getId(), id -> new ArrayList<>());
+                
+                for (Reservation other : roomReservations) {
+                    if (other.getCheckOutDate().isAfter(item.getCheckInDate())
+                            && other.getCheckInDate().isBefore(item.getCheckOutDate())) {
+                        throw new BookingException("Room " + room.getRoomNumber()
+                            + " is not available for the selected dates (item " + (i + 1) + ")");
+                    }
+                }
+                
+                inventoryService.reserve(room.getHotel().getId(), room.getRoomType(),
+                    item.getCheckInDate(), item.getCheckOutDate());
+                
+                BigDecimal amount = calculateTotalAmount(room, item.getCheckInDate(), item.getCheckOutDate());
+                Reservation reservation = createReservation(room.getHotel(), room.getRoomType(), room, guest,
+                    item.getCheckInDate(), item.getCheckOutDate(), amount, request.getSpecialRequests());
+                reservation.setTenantId(GUEST_TENANT_ID);
+                reservations.add(reservation);
+                
+                // Later items in the same request must not overlap this one
+                roomReservations.add(reservation);
+                totalAmount = totalAmount.add(amount);
+            }
+            
+            // One payment for the whole group, taken before the rooms were locked
+            String paymentIntentId = null;
+            if (payment != null) {
+                if (payment.getAmount().compareTo(totalAmount) != 0) {
+                    // The charge is refunded by its compensation
+                    throw new BookingException("The price of the selected rooms changed, please try again");
+                }
+                paymentIntentId = payment.getPaymentIntentId();
+                for (Reservation reservation : reservations) {
+                    reservation.setPaymentIntentId(paymentIntentId);
+                    reservation.setStatus(ReservationStatus.CONFIRMED);
+                }
+                refundService.cancelCompensation(payment.getId());
+            }
+            
+            reservationJdbcRepository.batchInsert(reservations);
+            
+            // Re-read the inserted rows, in request order, with their associations
+            List<String> confirmationNumbers = reservations.stream()
+                .map(Reservation::getConfirmationNumber)
+                .toList();
+            Map<String, Reservation> saved = reservationRepository.findByConfirmationNumberIn(confirmationNumbers, GUEST_TENANT_ID).stream()
+                .collect(Collectors.toMap(Reservation::getConfirmationNumber, Function.identity()));
+            saved.values().forEach(reservationStateMachine::onCreated);
+            List<BookingResponse> bookings = confirmationNumbers.stream()
+                .map(saved::get)
+                .map(this::convertToBookingResponse)
+                .toList();
+            
+            GroupBookingResponse response = new GroupBookingResponse(
+                paymentIntentId != null ? ReservationStatus.CONFIRMED.name() : ReservationStatus.PENDING.name(),
+                totalAmount,
+                bookings
+            );
+            response.setPaymentIntentId(paymentIntentId);
+            response.setPaymentStatus(paymentIntentId != null ? "PAID" : "PENDING");
+            return response;
+        } finally {
+            // Clear tenant context
+            TenantContext.clear();
+        }
+    }
+    
     /**
      * Get booking details
      */
@@ -116,6 +316,17 @@ public class BookingService {
         return convertToBookingResponse(reservation);
     }
     
+    /**
+     * Get booking details by confirmation number, among the bookings made through this service
+     */
+    @Transactional(readOnly = true)
+    public BookingResponse getBookingByConfirmationNumber(String confirmationNumber) {
+        Reservation reservation = reservationRepository.findByConfirmationNumberAndTenantId(confirmationNumber, GUEST_TENANT_ID)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with confirmation number: " + confirmationNumber));
+        
+        return convertToBookingResponse(reservation);
+    }
+    
     /**
      * Cancel a booking
      */
@@ -128,14 +339,161 @@ public class BookingService {
             throw new BookingException("Cannot cancel reservation less than 24 hours before check-in");
         }
         
-        reservation.setStatus(ReservationStatus.CANCELLED);
+        reservation = reservationStateMachine.transition(reservation, ReservationStatus.CANCELLED);
+        
+        // Paid reservations are refunded asynchronously by RefundService
+        
+        return convertToBookingResponse(reservation);
+    }
+    
+    /**
+     * Amount to charge before a date change, or null when none is needed.
+     * A paid booking that gets more expensive is charged the full new price
+     * (and its original payment refunded) by BookingDateChangeService, outside
+     * the locked transaction that applies the change.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal quoteDateChangeCharge(Long reservationId, BookingDateChangeRequest request, Long callerId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with id: " + reservationId));
+        checkCanManage(reservation, callerId);
+        validateDateChange(reservation, request);
+        if (reservation.getPaymentIntentId() == null
+                || (request.getCheckInDate().equals(reservation.getCheckInDate())
+                    && request.getCheckOutDate().equals(reservation.getCheckOutDate()))) {
+            return null;
+        }
+        
+        BigDecimal newAmount = dateChangeAmount(reservation, request);
+        return newAmount.compareTo(reservation.getTotalAmount()) > 0 ? newAmount : null;
+    }
+    
+    /**
+     * Move a booking to new dates in one short transaction, without calling the payment provider.
+     * Only the nights gained are checked and taken and only the nights lost are
+     * given back, so the guest never lets go of the nights the stays share.
+     * A paid booking that gets cheaper is partly refunded. One that gets more
+     * expensive needs the compensating refund of a charge for exactly the new
+     * price, taken beforehand; the change adopts the charge and drops the compensation.
+     */
+    public BookingResponse changeBookingDates(Long reservationId, BookingDateChangeRequest request,
+                                              RefundJob newCharge, Long callerId) {
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with id: " + reservationId));
+        checkCanManage(reservation, callerId);
+        validateDateChange(reservation, request);
+        
+        LocalDate oldCheckIn = reservation.getCheckInDate();
+        LocalDate oldCheckOut = reservation.getCheckOutDate();
+        LocalDate newCheckIn = request.getCheckInDate();
+        LocalDate newCheckOut = request.getCheckOutDate();
+        if (newCheckIn.equals(oldCheckIn) && newCheckOut.equals(oldCheckOut)) {
+            if (newCharge != null) {
+                throw new BookingException("Reservation dates are unchanged");
+            }
+            return convertToBookingResponse(reservation);
+        }
+        
+        Room room = reservation.getRoom();
+        if (room != null) {
+            // Lock the room, then check it only for the nights the booking does not hold yet
+            roomRepository.findAllByIdForUpdate(List.of(room.getId()));
+            for (LocalDate[] gained : gainedNights(oldCheckIn, oldCheckOut, newCheckIn, newCheckOut)) {
+                if (!roomRepository.isRoomAvailable(room.getId(), gained[0], gained[1])) {
+                    throw new BookingException("Room is not available for the selected dates");
+                }
+            }
+        }
+        
+        inventoryService.swap(reservation.getHotel().getId(), reservation.getRoomType(),
+            oldCheckIn, oldCheckOut, newCheckIn, newCheckOut);
+        
+        BigDecimal oldAmount = reservation.getTotalAmount();
+        BigDecimal newAmount = dateChangeAmount(reservation, request);
+        
+        String paymentIntentId = reservation.getPaymentIntentId();
+        boolean needsCharge = paymentIntentId != null && newAmount.compareTo(oldAmount) > 0;
+        if (needsCharge != (newCharge != null)
+                || (newCharge != null && newCharge.getAmount().compareTo(newAmount) != 0)) {
+            // The price moved since the quote; any charge taken is refunded by its compensation
+            throw new BookingException("The price of the new dates changed, please try again");
+        }
+        if (newCharge != null) {
+            reservation.setPaymentIntentId(newCharge.getPaymentIntentId());
+            refundService.cancelCompensation(newCharge.getId());
+            refundService.enqueue(reservation.getId(), paymentIntentId, oldAmount);
+        } else if (paymentIntentId != null && newAmount.compareTo(oldAmount) < 0) {
+            refundService.enqueue(reservation.getId(), paymentIntentId, oldAmount.subtract(newAmount));
+        }
+        
+        reservation.setCheckInDate(newCheckIn);
+        reservation.setCheckOutDate(newCheckOut);
+        reservation.setTotalAmount(newAmount);
         reservation = reservationRepository.save(reservation);
+        reservationStateMachine.onRescheduled(reservation, oldCheckIn, oldCheckOut);
         
-        // Process refund if needed
-        if (reservation.getPaymentIntentId() != null) {
-            // TODO: Implement refund logic
+        return convertToBookingResponse(reservation);
+    }
+    
+    /**
+     * Only the reservation's guest or staff of its hotel may change it
+     */
+    private void checkCanManage(Reservation reservation, Long callerId) {
+        if (reservation.getGuest() != null && reservation.getGuest().getId().equals(callerId)) {
+            return;
+        }
+        User caller = userRepository.findById(callerId).orElse(null);
+        boolean hotelStaff = caller != null
+            && caller.getHotel() != null
+            && caller.getHotel().getId().equals(reservation.getHotel().getId())
+            && caller.getRoles().stream().anyMatch(HOTEL_STAFF_ROLES::contains);
+        if (!hotelStaff) {
+            throw new AccessDeniedException("You are not allowed to change this booking");
+        }
+    }
+    
+    private void validateDateChange(Reservation reservation, BookingDateChangeRequest request) {
+        if (reservation.getStatus() != ReservationStatus.PENDING && reservation.getStatus() != ReservationStatus.CONFIRMED) {
+            throw new BookingException("Only pending or confirmed reservations can change dates");
+        }
+        if (reservation.getCheckInDate().isBefore(LocalDateTime.now().toLocalDate().plusDays(1))) {
+            throw new BookingException("Cannot change reservation less than 24 hours before check-in");
+        }
+        if (!request.getCheckInDate().isBefore(request.getCheckOutDate())) {
+            throw new BookingException("Check-in date must be before check-out date");
+        }
+        if (request.getCheckInDate().isBefore(LocalDateTime.now().toLocalDate())) {
+            throw new BookingException("Check-in date cannot be in the past");
+        }
+    }
+    
+    private BigDecimal dateChangeAmount(Reservation reservation, BookingDateChangeRequest request) {
+        Room room = reservation.getRoom();
+        return room != null
+            ? calculateTotalAmount(room, request.getCheckInDate(), request.getCheckOutDate())
+            : calculateTotalAmount(reservation.getHotel(), reservation.getRoomType(),
+                request.getCheckInDate(), request.getCheckOutDate());
+    }
+    
+    /**
+     * Pay for a pending booking and confirm it
+     */
+    public BookingResponse confirmPendingBooking(Long reservationId, String paymentMethodId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with id: " + reservationId));
+        
+        if (reservation.getStatus() != ReservationStatus.PENDING) {
+            throw new BookingException("Reservation is not awaiting payment");
+        }
+        
+        try {
+            String paymentIntentId = paymentGateway.charge(reservation.getTotalAmount(), paymentMethodId);
+            reservation.setPaymentIntentId(paymentIntentId);
+        } catch (PaymentException e) {
+            throw new BookingException("Payment processing failed: " + e.getMessage(), e);
         }
         
+        reservation = reservationStateMachine.transition(reservation, ReservationStatus.CONFIRMED);
         return convertToBookingResponse(reservation);
     }
     
@@ -144,101 +502,176 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<BookingResponse> getUserBookings(Long userId) {
-        List<Reservation> reservations = reservationRepository.findByGuestIdOrderByCreatedAtDesc(userId);
+        List<Reservation> reservations = reservationRepository.findGuestHistory(userId, Pageable.unpaged());
         return reservations.stream()
             .map(this::convertToBookingResponse)
             .toList();
     }
     
+    /**
+     * Get one page of a user's booking history, newest first.
+     * The first page at the default size is served from a per-guest cache.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getUserBookingHistory(Long userId, String cursor, Integer size) {
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE) : HISTORY_PAGE_SIZE;
+        if (cursor == null && pageSize == HISTORY_PAGE_SIZE) {
+            return bookingHistoryCache.getFirstPage(userId, guestId -> loadHistoryPage(guestId, null, pageSize));
+        }
+        return loadHistoryPage(userId, cursor, pageSize);
+    }
+    
+    /**
+     * Load a history page with one fetch-joined query, reading one extra row to detect more pages
+     */
+    private CursorPage<BookingResponse> loadHistoryPage(Long userId, String cursor, int pageSize) {
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Reservation> reservations;
+        if (cursor == null) {
+            reservations = reservationRepository.findGuestHistory(userId, limit);
+        } else {
+            String[] keyset = decodeCursor(cursor);
+            reservations = reservationRepository.findGuestHistoryBefore(
+                userId, LocalDateTime.parse(keyset[0]), Long.valueOf(keyset[1]), limit);
+        }
+        
+        String nextCursor = null;
+        if (reservations.size() > pageSize) {
+            reservations = reservations.subList(0, pageSize);
+            Reservation last = reservations.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        
+        List<BookingResponse> content = reservations.stream()
+            .map(this::convertToBookingResponse)
+            .toList();
+        return new CursorPage<>(content, nextCursor);
+    }
+    
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String keyset = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(keyset.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private String[] decodeCursor(String cursor) {
+        try {
+            String keyset = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = keyset.split("\\|");
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new BookingException("Invalid history cursor");
+        }
+    }
+    
+    /**
+     * Ranges of nights in the new stay that the old stay does not cover
+     */
+    private List<LocalDate[]> gainedNights(LocalDate oldCheckIn, LocalDate oldCheckOut,
+                                           LocalDate newCheckIn, LocalDate newCheckOut) {
+        if (!newCheckIn.isBefore(oldCheckOut) || !oldCheckIn.isBefore(newCheckOut)) {
+            return List.<LocalDate[]>of(new LocalDate[] { newCheckIn, newCheckOut });
+        }
+        
+        List<LocalDate[]> gained = new ArrayList<>(2);
+        if (newCheckIn.isBefore(oldCheckIn)) {
+            gained.add(new LocalDate[] { newCheckIn, oldCheckIn });
+        }
+        if (newCheckOut.isAfter(oldCheckOut)) {
+            gained.add(new LocalDate[] { oldCheckOut, newCheckOut });
+        }
+        return gained;
+    }
+    
     /**
      * Validate booking request
      */
     private void validateBookingRequest(BookingRequest request) {
-        if (request.getCheckInDate().isAfter(request.getCheckOutDate())) {
+        if (request.getRoomId() == null && (request.getHotelId() == null || request.getRoomType() == null)) {
+            throw new BookingException("Either a room ID or a hotel ID and room type is required");
+        }
+        
+        validateStay(request.getCheckInDate(), request.getCheckOutDate(), request.getGuests());
+    }
+    
+    /**
+     * Validate stay dates and party size
+     */
+    private void validateStay(LocalDate checkInDate, LocalDate checkOutDate, Integer guests) {
+        if (checkInDate.isAfter(checkOutDate)) {
             throw new BookingException("Check-in date must be before check-out date");
         }
         
-        if (request.getCheckInDate().isBefore(LocalDateTime.now().toLocalDate())) {
+        if (checkInDate.isBefore(LocalDateTime.now().toLocalDate())) {
             throw new BookingException("Check-in date cannot be in the past");
         }
         
-        if (request.getGuests() == null || request.getGuests() <= 0) {
+        if (guests == null || guests <= 0) {
             throw new BookingException("Number of guests must be greater than 0");
         }
     }
     
     /**
-     * Get or create guest user
+     * Get or create guest user.
+     * New guests are inserted without a password hash; they can claim the
+     * account later through the auth API.
      */
-    private User getOrCreateGuest(BookingRequest request) {
-        Optional<User> existingUser = userRepository.findByEmail(request.getGuestEmail());
+    private User getOrCreateGuest(String email, String fullName, String phone) {
+        Optional<User> existingUser = userRepository.findByEmail(email);
         
         if (existingUser.isPresent()) {
             return existingUser.get();
         }
         
-        // Create new guest user
-        User guest = new User();
-        guest.setEmail(request.getGuestEmail());
-        guest.setFirstName(extractFirstName(request.getGuestName()));
-        guest.setLastName(extractLastName(request.getGuestName()));
-        guest.setPhone(request.getGuestPhone());
-        guest.setRoles(Set.of(UserRole.GUEST));
-        guest.setTenantId("guest");
-        
-        // Set a temporary password for guest users
-        String tempPassword = "guestpassword123";
-        guest.setPassword(passwordEncoder.encode(tempPassword));
+        userRepository.insertGuestIfAbsent(
+            GUEST_TENANT_ID,
+            email,
+            extractFirstName(fullName),
+            extractLastName(fullName),
+            phone
+        );
+        userRepository.insertGuestRoleIfAbsent(GUEST_TENANT_ID, email);
         
-        return userRepository.save(guest);
+        return userRepository.findByEmail(email)
+            .orElseThrow(() -> new BookingException("Unable to create guest account for " + email));
     }
     
     /**
      * Calculate total amount for the booking
      */
-    private BigDecimal calculateTotalAmount(Room room, BookingRequest request) {
-        long numberOfNights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
-        return room.getPricePerNight().multiply(BigDecimal.valueOf(numberOfNights));
+    private BigDecimal calculateTotalAmount(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return pricingService.quote(room, checkInDate, checkOutDate);
+    }
+    
+    /**
+     * Calculate total amount for a room-type booking from the type's lowest nightly price
+     */
+    private BigDecimal calculateTotalAmount(Hotel hotel, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        return pricingService.quote(hotel.getId(), roomType, checkInDate, checkOutDate);
     }
     
     /**
      * Create reservation entity
      */
-    private Reservation createReservation(BookingRequest request, Room room, User guest, BigDecimal totalAmount) {
+    private Reservation createReservation(Hotel hotel, RoomType roomType, Room room, User guest,
+                                          LocalDate checkInDate, LocalDate checkOutDate,
+                                          BigDecimal totalAmount, String specialRequests) {
         Reservation reservation = new Reservation();
+        reservation.setConfirmationNumber(confirmationNumberGenerator.next());
+        reservation.setHotel(hotel);
+        reservation.setRoomType(roomType);
         reservation.setRoom(room);
         reservation.setGuest(guest);
-        reservation.setCheckInDate(request.getCheckInDate());
-        reservation.setCheckOutDate(request.getCheckOutDate());
+        reservation.setCheckInDate(checkInDate);
+        reservation.setCheckOutDate(checkOutDate);
         reservation.setTotalAmount(totalAmount);
-        reservation.setSpecialRequests(request.getSpecialRequests());
+        reservation.setSpecialRequests(specialRequests);
         reservation.setStatus(ReservationStatus.PENDING);
         
         return reservation;
     }
     
-    /**
-     * Process payment using Stripe
-     */
-    private String processPayment(BigDecimal amount, String paymentMethodId) throws StripeException {
-        if (stripeApiKey == null || stripeApiKey.isEmpty()) {
-            throw new BookingException("Payment processing is not configured");
-        }
-        
-        Stripe.apiKey = stripeApiKey;
-        
-        PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
-            .setAmount(amount.multiply(BigDecimal.valueOf(100)).longValue()) // Convert to cents
-            .setCurrency("usd")
-            .setPaymentMethod(paymentMethodId)
-            .setConfirm(true)
-            .setReturnUrl("https://your-website.com/return")
-            .build();
-        
-        PaymentIntent paymentIntent = PaymentIntent.create(params);
-        return paymentIntent.getId();
-    }
-    
     /**
      * Convert Reservation to BookingResponse DTO
      */
@@ -246,19 +679,23 @@ public class BookingService {
         BookingResponse response = new BookingResponse();
         response.setReservationId(reservation.getId());
         response.setStatus(reservation.getStatus().name());
-        response.setConfirmationNumber(generateConfirmationNumber(reservation.getId()));
+        response.setConfirmationNumber(reservation.getConfirmationNumber());
         response.setCheckInDate(reservation.getCheckInDate());
         response.setCheckOutDate(reservation.getCheckOutDate());
         response.setTotalAmount(reservation.getTotalAmount());
         response.setPaymentIntentId(reservation.getPaymentIntentId());
         response.setCreatedAt(reservation.getCreatedAt());
         
+        Hotel hotel = reservation.getHotel();
+        response.setRoomType(reservation.getRoomType().name());
+        response.setHotelName(hotel.getName());
+        response.setHotelAddress(hotel.getAddress());
+        
         Room room = reservation.getRoom();
-        response.setRoomNumber(room.getRoomNumber());
-        response.setRoomType(room.getRoomType().name());
-        response.setPricePerNight(room.getPricePerNight());
-        response.setHotelName(room.getHotel().getName());
-        response.setHotelAddress(room.getHotel().getAddress());
+        if (room != null) {
+            response.setRoomNumber(room.getRoomNumber());
+            response.setPricePerNight(room.getPricePerNight());
+        }
         
         // Guest details
         User guest = reservation.getGuest();
@@ -275,13 +712,6 @@ public class BookingService {
         return response;
     }
     
-    /**
-     * Generate confirmation number
-     */
-    private String generateConfirmationNumber(Long reservationId) {
-        return "BK" + String.format("%08d", reservationId);
-    }
-    
     /**
      * Extract first name from full name
      */
@@ -0,0 +1,42 @@
+package com.bookmyhotel.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.entity.ConfirmationSequence;
+import com.bookmyhotel.repository.ConfirmationSequenceRepository;
+
+/**
+ * Reserves blocks of confirmation numbers from the sequence table
+ */
+@Service
+public class ConfirmationBlockAllocator {
+    
+    /** Key of the single sequence row shared by all tenants */
+    static final String SEQUENCE_KEY = "*";
+    
+    @Autowired
+    private ConfirmationSequenceRepository sequenceRepository;
+    
+    /**
+     * Reserve the next block.
+     * Runs in its own short transaction so the row lock is not held for the
+     * duration of the booking that triggered the refill.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock() {
+        ConfirmationSequence sequence = sequenceRepository.findForUpdate(SEQUENCE_KEY).orElse(null);
+        if (sequence == null) {
+            sequenceRepository.insertIfAbsent(SEQUENCE_KEY);
+            sequence = sequenceRepository.findForUpdate(SEQUENCE_KEY)
+                .orElseThrow(() -> new IllegalStateException("Confirmation sequence missing"));
+        }
+        
+        long block = sequence.getNextBlock();
+        sequence.setNextBlock(block + 1);
+        sequenceRepository.save(sequence);
+        return block;
+    }
+}
@@ -0,0 +1,153 @@
+package com.bookmyhotel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hi/lo confirmation number generator.
+ * Each node reserves a block of {@code blockSize} values from one sequence shared by
+ * all tenants and hands them out from memory, so only one booking per block touches
+ * the database. Sequence values are scrambled with a keyed Feistel permutation, which
+ * keeps codes unique across every tenant while making neighbouring codes unpredictable.
+ */
+@Component
+public class ConfirmationNumberGenerator {
+    
+    static final String PREFIX = "BK";
+    
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 9;
+    private static final int HALF_BITS = 22;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long MAX_VALUE = 1L << (2 * HALF_BITS);
+    private static final int ROUNDS = 6;
+    
+    private volatile Block block;
+    
+    private final ConfirmationBlockAllocator allocator;
+    private final int blockSize;
+    private final long[] roundKeys;
+    
+    @Autowired
+    public ConfirmationNumberGenerator(ConfirmationBlockAllocator allocator,
+                                       @Value("${app.booking.confirmation.block-size:100}") int blockSize,
+                                       @Value("${app.booking.confirmation.secret}") String secret) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Confirmation block size must be positive");
+        }
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("app.booking.confirmation.secret must be set");
+        }
+        this.allocator = allocator;
+        this.blockSize = blockSize;
+        this.roundKeys = deriveRoundKeys(secret);
+    }
+    
+    /**
+     * Allocate the next confirmation number
+     */
+    public String next() {
+        while (true) {
+            Block current = block;
+            if (current != null) {
+                long value = current.next();
+                if (value >= 0) {
+                    return encode(value);
+                }
+            }
+            refill(current);
+        }
+    }
+    
+    /**
+     * Replace an exhausted block; only one thread pays for the round trip
+     */
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        long hi = allocator.reserveBlock();
+        long start = hi * blockSize;
+        if (start + blockSize > MAX_VALUE) {
+            throw new IllegalStateException("Confirmation number space exhausted");
+        }
+        block = new Block(start, start + blockSize);
+    }
+    
+    /**
+     * Scramble a sequence value and render it as a prefixed base32 code
+     */
+    String encode(long value) {
+        long scrambled = permute(value);
+        char[] code = new char[PREFIX.length() + CODE_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), code, 0);
+        for (int i = code.length - 1; i >= PREFIX.length(); i--) {
+            code[i] = ALPHABET[(int) (scrambled & 31)];
+            scrambled >>>= 5;
+        }
+        return new String(code);
+    }
+    
+    /**
+     * Balanced Feistel network over 44 bits; a bijection, so distinct inputs give distinct codes
+     */
+    long permute(long value) {
+        long left = (value >>> HALF_BITS) & HALF_MASK;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ roundFunction(right, roundKeys[round]);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+    
+    private static long roundFunction(long half, long key) {
+        long x = half ^ key;
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x & HALF_MASK;
+    }
+    
+    private static long[] deriveRoundKeys(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            long[] keys = new long[ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                long key = 0;
+                for (int i = 0; i < 8; i++) {
+                    key = (key << 8) | (digest[(round * 5 + i) % digest.length] & 0xff);
+                }
+                keys[round] = key;
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Half-open range of sequence values owned by this node
+     */
+    private static final class Block {
+        private final AtomicLong cursor;
+        private final long end;
+        
+        Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+        
+        long next() {
+            long value = cursor.getAndIncrement();
+            return value < end ? value : -1;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.bookmyhotel.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bookmyhotel.dto.FrontDeskBoardDTO;
+import com.bookmyhotel.dto.FrontDeskBoardDelta;
+import com.bookmyhotel.dto.FrontDeskBoardEntry;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.bookmyhotel.event.ReservationRescheduledEvent;
+import com.bookmyhotel.exception.ResourceNotFoundException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Live arrivals and departures board for the front desk.
+ * Each subscriber gets today's board as a snapshot, then one delta per committed
+ * reservation change at its hotel, pushed from the application event bus.
+ * Hotels without subscribers cost nothing beyond a map lookup per change.
+ * Events are written by a small sender pool, one at a time per subscriber and in
+ * order, so a slow client never holds up the thread that committed the change;
+ * deltas wait behind the snapshot until it has been sent.
+ */
+@Service
+public class FrontDeskBoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FrontDeskBoardService.class);
+
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final long emitterTimeoutMs;
+    private final int maxPendingEvents;
+    private final ThreadPoolExecutor senders;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public FrontDeskBoardService(ReservationRepository reservationRepository,
+                                 UserRepository userRepository,
+                                 @Value("${app.front-desk.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                 @Value("${app.front-desk.sender-threads:2}") int senderThreads,
+                                 @Value("${app.front-desk.max-pending-events:500}") int maxPendingEvents) {
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxPendingEvents = maxPendingEvents;
+        // Each subscriber has at most one drain task queued, so the queue is bounded by the subscriber count
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "front-desk-board");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Open a board stream for the staff member's hotel, starting with a snapshot
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(String email) {
+        Hotel hotel = userRepository.findByEmail(email)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+            .getHotel();
+        if (hotel == null) {
+            throw new RuntimeException("User is not associated with any hotel");
+        }
+        Long hotelId = hotel.getId();
+
+        // Register before reading the snapshot so no committed change can fall between the two;
+        // deltas are held until the snapshot goes out, and replaying one the snapshot already has is harmless
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(hotelId, emitter);
+        subscribers.computeIfAbsent(hotelId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscriber.start(SseEmitter.event().name("snapshot").data(getBoard(hotelId)));
+        return emitter;
+    }
+
+    /**
+     * Today's arrivals and departures at a hotel
+     */
+    @Transactional(readOnly = true)
+    public FrontDeskBoardDTO getBoard(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        List<FrontDeskBoardEntry> arrivals = reservationRepository.findUpcomingCheckIns(hotelId, today).stream()
+            .map(this::convertToEntry)
+            .toList();
+        List<FrontDeskBoardEntry> departures = reservationRepository.findUpcomingCheckOuts(hotelId, today).stream()
+            .map(this::convertToEntry)
+            .toList();
+        return new FrontDeskBoardDTO(today, arrivals, departures);
+    }
+
+    /**
+     * Push a committed reservation change to the hotel's subscribers if it touches today's board
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<Subscriber> hotelSubscribers = subscribers.get(event.getHotelId());
+        if (hotelSubscribers == null || hotelSubscribers.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        Reservation reservation = reservationRepository.findWithGuestAndRoomById(event.getReservationId()).orElse(null);
+        FrontDeskBoardDelta delta;
+        if (reservation == null) {
+            // Deleted: take it off the board if it was on it
+            if (!today.equals(event.getCheckInDate()) && !today.equals(event.getCheckOutDate())) {
+                return;
+            }
+            delta = new FrontDeskBoardDelta(event.getReservationId(), null, null);
+        } else {
+            boolean wasOnBoard = event instanceof ReservationRescheduledEvent rescheduled
+                && (today.equals(rescheduled.getPreviousCheckInDate()) || today.equals(rescheduled.getPreviousCheckOutDate()));
+            if (!wasOnBoard && !today.equals(reservation.getCheckInDate()) && !today.equals(reservation.getCheckOutDate())) {
+                return;
+            }
+
+            FrontDeskBoardEntry entry = convertToEntry(reservation);
+            delta = new FrontDeskBoardDelta(reservation.getId(),
+                isArrival(reservation, today) ? entry : null,
+                isDeparture(reservation, today) ? entry : null);
+        }
+        for (Subscriber subscriber : hotelSubscribers) {
+            subscriber.enqueue(SseEmitter.event().name("delta").data(delta));
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and drop the ones that went away
+     */
+    @Scheduled(fixedDelayString = "${app.front-desk.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(hotelSubscribers -> {
+            for (Subscriber subscriber : hotelSubscribers) {
+                subscriber.enqueue(SseEmitter.event().comment("keepalive"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.hotelId, (id, hotelSubscribers) -> {
+            hotelSubscribers.remove(subscriber);
+            return hotelSubscribers.isEmpty() ? null : hotelSubscribers;
+        });
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        logger.debug("Dropping front-desk board subscriber for hotel {}: {}", subscriber.hotelId, cause.getMessage());
+        unsubscribe(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private static boolean isArrival(Reservation reservation, LocalDate today) {
+        return today.equals(reservation.getCheckInDate())
+            && (reservation.getStatus() == ReservationStatus.CONFIRMED || reservation.getStatus() == ReservationStatus.CHECKED_IN);
+    }
+
+    private static boolean isDeparture(Reservation reservation, LocalDate today) {
+        return today.equals(reservation.getCheckOutDate())
+            && (reservation.getStatus() == ReservationStatus.CHECKED_IN || reservation.getStatus() == ReservationStatus.CHECKED_OUT);
+    }
+
+    private FrontDeskBoardEntry convertToEntry(Reservation reservation) {
+        FrontDeskBoardEntry entry = new FrontDeskBoardEntry();
+        entry.setReservationId(reservation.getId());
+        entry.setConfirmationNumber(reservation.getConfirmationNumber());
+        entry.setGuestName(reservation.getGuest().getFirstName() + " " + reservation.getGuest().getLastName());
+        entry.setRoomType(reservation.getRoomType());
+        entry.setRoomNumber(reservation.getRoom() != null ? reservation.getRoom().getRoomNumber() : null);
+        entry.setStatus(reservation.getStatus());
+        entry.setCheckInDate(reservation.getCheckInDate());
+        entry.setCheckOutDate(reservation.getCheckOutDate());
+        return entry;
+    }
+
+    /**
+     * One open stream and the events waiting to be written to it
+     */
+    private final class Subscriber {
+        private final Long hotelId;
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(Long hotelId, SseEmitter emitter) {
+            this.hotelId = hotelId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Send the snapshot, then everything that queued up behind it
+         */
+        void start(SseEmitter.SseEventBuilder snapshot) {
+            synchronized (this) {
+                pending.addFirst(snapshot);
+                started = true;
+                draining = true;
+            }
+            schedule();
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() >= maxPendingEvents) {
+                    // A client this far behind is dropped; it resubscribes for a fresh snapshot
+                    close();
+                    senders.execute(() -> drop(this, new IOException("Subscriber fell too far behind")));
+                    return;
+                }
+                pending.addLast(event);
+                if (!started || draining) {
+                    return;
+                }
+                draining = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    close();
+                }
+                drop(this, e);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            pending.clear();
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = pending.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        close();
+                    }
+                    drop(this, e);
+                    return;
+                }
+            }
+        }
+    }
+}
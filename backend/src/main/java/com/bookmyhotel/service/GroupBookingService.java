@@ -0,0 +1,59 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.bookmyhotel.dto.GroupBookingRequest;
+import com.bookmyhotel.dto.GroupBookingResponse;
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.PaymentException;
+import com.bookmyhotel.payment.PaymentGateway;
+
+/**
+ * Creates group bookings, taking the payment outside the transaction that locks the rooms.
+ * The group is charged first and a held-back refund of the charge committed straight away;
+ * the bookings then adopt the charge and drop that refund in the same commit. If they
+ * cannot be written, the refund is released, so a guest is never charged for rooms they
+ * did not get.
+ */
+@Service
+public class GroupBookingService {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private RefundService refundService;
+    
+    @Autowired
+    private PaymentGateway paymentGateway;
+    
+    /**
+     * Create several bookings in one atomic request, charging first when a payment method is given
+     */
+    public GroupBookingResponse createGroupBooking(GroupBookingRequest request) {
+        if (request.getPaymentMethodId() == null) {
+            return bookingService.createGroupBooking(request, null);
+        }
+        
+        BigDecimal totalAmount = bookingService.quoteGroupBooking(request);
+        String paymentIntentId;
+        try {
+            paymentIntentId = paymentGateway.charge(totalAmount, request.getPaymentMethodId());
+        } catch (PaymentException e) {
+            throw new BookingException("Payment processing failed: " + e.getMessage(), e);
+        }
+        
+        // No reservation exists yet, so the compensation is not tied to one
+        RefundJob compensation = refundService.enqueueCompensation(null, paymentIntentId, totalAmount);
+        try {
+            return bookingService.createGroupBooking(request, compensation);
+        } catch (RuntimeException e) {
+            refundService.releaseNow(compensation.getId());
+            throw e;
+        }
+    }
+}
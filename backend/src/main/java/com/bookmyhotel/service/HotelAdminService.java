@@ -1,27 +1,40 @@
 package com.bookmyhotel.service;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.CursorPage;
 import com.bookmyhotel.dto.HotelDTO;
+import com.bookmyhotel.dto.RoomBulkUpdateRequest;
 import com.bookmyhotel.dto.RoomDTO;
+import com.bookmyhotel.dto.RoomImportResult;
 import com.bookmyhotel.dto.UserDTO;
 import com.bookmyhotel.entity.Hotel;
 import com.bookmyhotel.entity.Reservation;
@@ -30,10 +43,15 @@ import com.bookmyhotel.entity.Room;
 import com.bookmyhotel.entity.RoomType;
 import com.bookmyhotel.entity.User;
 import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.event.HotelRatesChangedEvent;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.event.UserAccountChangedEvent;
 import com.bookmyhotel.repository.HotelRepository;
 import com.bookmyhotel.repository.ReservationRepository;
 import com.bookmyhotel.repository.RoomRepository;
 import com.bookmyhotel.repository.UserRepository;
+import com.bookmyhotel.tenant.HotelAdminContext;
 
 /**
  * Service for hotel admin operations
@@ -42,6 +60,13 @@ import com.bookmyhotel.repository.UserRepository;
 @Transactional
 public class HotelAdminService {
 
+    private static final int BOOKING_PAGE_SIZE = 20;
+    private static final int MAX_BOOKING_PAGE_SIZE = 100;
+
+    private static final Sort ROOM_SORT = Sort.by("roomNumber", "id");
+
+    private static final Set<String> STAFF_SORT_PROPERTIES = Set.of("firstName", "lastName", "email", "createdAt");
+
     @Autowired
     private UserRepository userRepository;
 
@@ -55,18 +80,40 @@ public class HotelAdminService {
     private ReservationRepository reservationRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private RoomAssignmentService roomAssignmentService;
+
+    @Autowired
+    private ReservationStateMachine reservationStateMachine;
+
+    @Autowired
+    private HotelStatsService hotelStatsService;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private RoomImportService roomImportService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectProvider<HotelAdminContext> hotelAdminContextProvider;
+
+    @Value("${app.rooms.bulk-update-batch-size:500}")
+    private int bulkUpdateBatchSize;
 
     /**
      * Get the hotel for the logged-in hotel admin
      */
     public HotelDTO getMyHotel(String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+        Hotel hotel = getAdminHotel(adminEmail);
         
         return convertToHotelDTO(hotel);
     }
@@ -75,12 +122,7 @@ public class HotelAdminService {
      * Update hotel details
      */
     public HotelDTO updateMyHotel(HotelDTO hotelDTO, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+        Hotel hotel = getAdminHotel(adminEmail);
         
         // Update hotel details
         hotel.setName(hotelDTO.getName());
@@ -99,65 +141,28 @@ public class HotelAdminService {
     /**
      * Get hotel staff with filtering
      */
-    public Page<UserDTO> getHotelStaff(String adminEmail, int page, int size, String search, String role) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+    public Page<UserDTO> getHotelStaff(String adminEmail, int page, int size, String search, String role,
+                                       String sortBy, String sortDir) {
+        Hotel hotel = getAdminHotel(adminEmail);
         
-        Pageable pageable = PageRequest.of(page, size);
+        // Filtering, sorting and paging all happen in the database
+        String property = STAFF_SORT_PROPERTIES.contains(sortBy) ? sortBy : "lastName";
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, property).and(Sort.by("id")));
         
-        // Get all staff for this hotel
-        List<User> allStaff = userRepository.findByHotelAndRolesContaining(hotel, 
-            Arrays.asList(UserRole.FRONTDESK, UserRole.HOUSEKEEPING, UserRole.HOTEL_ADMIN));
+        UserRole targetRole = role != null && !role.trim().isEmpty() ? UserRole.valueOf(role.trim()) : null;
         
-        // Apply filters
-        List<User> filteredStaff = allStaff.stream()
-            .filter(user -> {
-                boolean matches = true;
-                
-                // Search filter
-                if (search != null && !search.trim().isEmpty()) {
-                    String searchLower = search.toLowerCase();
-                    matches = user.getFirstName().toLowerCase().contains(searchLower) ||
-                             user.getLastName().toLowerCase().contains(searchLower) ||
-                             user.getEmail().toLowerCase().contains(searchLower);
-                }
-                
-                // Role filter
-                if (role != null && !role.trim().isEmpty()) {
-                    UserRole targetRole = UserRole.valueOf(role);
-                    matches = matches && user.getRoles().contains(targetRole);
-                }
-                
-                return matches;
-            })
-            .collect(Collectors.toList());
-        
-        // Manual pagination
-        int start = page * size;
-        int end = Math.min(start + size, filteredStaff.size());
-        List<User> pageContent = filteredStaff.subList(start, end);
-        
-        List<UserDTO> userDTOs = pageContent.stream()
-            .map(this::convertToUserDTO)
-            .collect(Collectors.toList());
-        
-        return new PageImpl<>(userDTOs, pageable, filteredStaff.size());
+        return userRepository.searchHotelStaff(hotel,
+                Arrays.asList(UserRole.FRONTDESK, UserRole.HOUSEKEEPING, UserRole.HOTEL_ADMIN),
+                targetRole, likePattern(search), pageable)
+            .map(this::convertToUserDTO);
     }
 
     /**
      * Get a specific staff member by ID
      */
     public UserDTO getStaffMemberById(Long staffId, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+        Hotel hotel = getAdminHotel(adminEmail);
         
         User staff = userRepository.findById(staffId)
             .orElseThrow(() -> new RuntimeException("Staff member not found"));
@@ -174,12 +179,7 @@ public class HotelAdminService {
      * Add a new staff member
      */
     public UserDTO addStaffMember(UserDTO userDTO, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+        Hotel hotel = getAdminHotel(adminEmail);
         
         // Validate that the email doesn't already exist
         if (userRepository.existsByEmail(userDTO.getEmail())) {
@@ -195,14 +195,14 @@ public class HotelAdminService {
         // Create new user
         User newUser = new User();
         newUser.setEmail(userDTO.getEmail());
-        newUser.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+        newUser.setPassword(passwordHashingService.encode(userDTO.getPassword()));
         newUser.setFirstName(userDTO.getFirstName());
         newUser.setLastName(userDTO.getLastName());
         newUser.setPhone(userDTO.getPhone());
         newUser.setIsActive(true);
         newUser.setRoles(userDTO.getRoles());
         newUser.setHotel(hotel);
-        newUser.setTenantId(admin.getTenantId());
+        newUser.setTenantId(hotel.getTenantId());
         newUser.setCreatedAt(LocalDateTime.now());
         newUser.setUpdatedAt(LocalDateTime.now());
         
@@ -214,8 +214,7 @@ public class HotelAdminService {
      * Update staff member
      */
     public UserDTO updateStaffMember(Long staffId, UserDTO userDTO, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         User staff = userRepository.findById(staffId)
             .orElseThrow(() -> new RuntimeException("Staff member not found"));
@@ -233,7 +232,7 @@ public class HotelAdminService {
         
         // Update password if provided
         if (userDTO.getPassword() != null && !userDTO.getPassword().trim().isEmpty()) {
-            staff.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+            staff.setPassword(passwordHashingService.encode(userDTO.getPassword()));
         }
         
         // Update roles if provided and valid
@@ -245,6 +244,7 @@ public class HotelAdminService {
         }
         
         User saved = userRepository.save(staff);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(saved.getId(), saved.getEmail()));
         return convertToUserDTO(saved);
     }
 
@@ -252,8 +252,7 @@ public class HotelAdminService {
      * Remove staff member
      */
     public void removeStaffMember(Long staffId, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         User staff = userRepository.findById(staffId)
             .orElseThrow(() -> new RuntimeException("Staff member not found"));
@@ -264,14 +263,14 @@ public class HotelAdminService {
         }
         
         userRepository.delete(staff);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(staff.getId(), staff.getEmail()));
     }
 
     /**
      * Toggle staff status (activate/deactivate)
      */
     public UserDTO toggleStaffStatus(Long staffId, Boolean active, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         User staff = userRepository.findById(staffId)
             .orElseThrow(() -> new RuntimeException("Staff member not found"));
@@ -285,6 +284,7 @@ public class HotelAdminService {
         staff.setUpdatedAt(LocalDateTime.now());
         
         User saved = userRepository.save(staff);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(saved.getId(), saved.getEmail()));
         return convertToUserDTO(saved);
     }
 
@@ -292,67 +292,36 @@ public class HotelAdminService {
      * Get hotel rooms with filtering
      */
     public Page<RoomDTO> getHotelRooms(String adminEmail, int page, int size, String search, String roomType, Boolean available) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
-        
-        Pageable pageable = PageRequest.of(page, size);
-        
-        // Get all rooms for this hotel
-        List<Room> allRooms = roomRepository.findByHotel(hotel);
-        
-        // Apply filters
-        List<Room> filteredRooms = allRooms.stream()
-            .filter(room -> {
-                boolean matches = true;
-                
-                // Search filter
-                if (search != null && !search.trim().isEmpty()) {
-                    String searchLower = search.toLowerCase();
-                    matches = room.getRoomNumber().toLowerCase().contains(searchLower) ||
-                             (room.getDescription() != null && room.getDescription().toLowerCase().contains(searchLower));
-                }
-                
-                // Room type filter
-                if (roomType != null && !roomType.trim().isEmpty()) {
-                    RoomType targetType = RoomType.valueOf(roomType);
-                    matches = matches && room.getRoomType().equals(targetType);
-                }
-                
-                // Availability filter
-                if (available != null) {
-                    matches = matches && room.getIsAvailable().equals(available);
-                }
-                
-                return matches;
-            })
-            .collect(Collectors.toList());
-        
-        // Manual pagination
-        int start = page * size;
-        int end = Math.min(start + size, filteredRooms.size());
-        List<Room> pageContent = filteredRooms.subList(start, end);
-        
-        List<RoomDTO> roomDTOs = pageContent.stream()
-            .map(this::convertToRoomDTO)
-            .collect(Collectors.toList());
-        
-        return new PageImpl<>(roomDTOs, pageable, filteredRooms.size());
+        Hotel hotel = getAdminHotel(adminEmail);
+        return roomRepository.searchHotelRooms(hotel, parseRoomType(roomType), available, likePattern(search),
+                PageRequest.of(page, size, ROOM_SORT))
+            .map(this::convertToRoomDTO);
+    }
+
+    /**
+     * Get hotel rooms with filtering for infinite scroll, without counting all matches
+     */
+    public Slice<RoomDTO> getHotelRoomsSlice(String adminEmail, int page, int size, String search, String roomType, Boolean available) {
+        Hotel hotel = getAdminHotel(adminEmail);
+        return roomRepository.sliceHotelRooms(hotel, parseRoomType(roomType), available, likePattern(search),
+                PageRequest.of(page, size, ROOM_SORT))
+            .map(this::convertToRoomDTO);
+    }
+
+    /**
+     * Bulk-import rooms from a CSV stream into the admin's hotel
+     */
+    public RoomImportResult importRooms(InputStream csv, String adminEmail) {
+        Hotel hotel = getAdminHotel(adminEmail);
+        Reader reader = new InputStreamReader(csv, StandardCharsets.UTF_8);
+        return roomImportService.importRooms(hotel, hotel.getTenantId(), reader);
     }
 
     /**
      * Add a new room
      */
     public RoomDTO addRoom(RoomDTO roomDTO, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
-        
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
-        }
+        Hotel hotel = getAdminHotel(adminEmail);
         
         // Check if room number already exists for this hotel
         if (roomRepository.existsByHotelAndRoomNumber(hotel, roomDTO.getRoomNumber())) {
@@ -368,11 +337,12 @@ public class HotelAdminService {
         newRoom.setDescription(roomDTO.getDescription());
         newRoom.setIsAvailable(true);
         newRoom.setHotel(hotel);
-        newRoom.setTenantId(admin.getTenantId());
+        newRoom.setTenantId(hotel.getTenantId());
         newRoom.setCreatedAt(LocalDateTime.now());
         newRoom.setUpdatedAt(LocalDateTime.now());
         
         Room saved = roomRepository.save(newRoom);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), saved.getRoomType(), 1));
         return convertToRoomDTO(saved);
     }
 
@@ -381,8 +351,7 @@ public class HotelAdminService {
      */
     @Transactional(readOnly = true)
     public RoomDTO getRoomById(Long roomId, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> new RuntimeException("Room not found"));
@@ -399,8 +368,7 @@ public class HotelAdminService {
      * Update room
      */
     public RoomDTO updateRoom(Long roomId, RoomDTO roomDTO, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> new RuntimeException("Room not found"));
@@ -411,6 +379,8 @@ public class HotelAdminService {
         }
         
         // Update room details
+        RoomType previousType = room.getRoomType();
+        BigDecimal previousPrice = room.getPricePerNight();
         room.setRoomNumber(roomDTO.getRoomNumber());
         room.setRoomType(roomDTO.getRoomType());
         room.setPricePerNight(roomDTO.getPricePerNight());
@@ -419,6 +389,13 @@ public class HotelAdminService {
         room.setUpdatedAt(LocalDateTime.now());
         
         Room saved = roomRepository.save(room);
+        if (Boolean.TRUE.equals(saved.getIsAvailable()) && previousType != saved.getRoomType()) {
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), previousType, -1));
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), saved.getRoomType(), 1));
+        }
+        if (!Objects.equals(previousPrice, saved.getPricePerNight())) {
+            eventPublisher.publishEvent(new HotelRatesChangedEvent(hotel.getId()));
+        }
         return convertToRoomDTO(saved);
     }
 
@@ -426,8 +403,7 @@ public class HotelAdminService {
      * Delete room
      */
     public void deleteRoom(Long roomId, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> new RuntimeException("Room not found"));
@@ -438,14 +414,16 @@ public class HotelAdminService {
         }
         
         roomRepository.delete(room);
+        if (Boolean.TRUE.equals(room.getIsAvailable())) {
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), room.getRoomType(), -1));
+        }
     }
 
     /**
      * Toggle room availability
      */
     public RoomDTO toggleRoomAvailability(Long roomId, Boolean available, String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+        Hotel hotel = getAdminHotel(adminEmail);
         
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> new RuntimeException("Room not found"));
@@ -455,24 +433,95 @@ public class HotelAdminService {
             throw new RuntimeException("Room does not belong to your hotel");
         }
         
+        boolean wasAvailable = Boolean.TRUE.equals(room.getIsAvailable());
         room.setIsAvailable(available);
         room.setUpdatedAt(LocalDateTime.now());
         
         Room saved = roomRepository.save(room);
+        boolean isAvailable = Boolean.TRUE.equals(saved.getIsAvailable());
+        if (wasAvailable != isAvailable) {
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), saved.getRoomType(), isAvailable ? 1 : -1));
+        }
         return convertToRoomDTO(saved);
     }
 
     /**
-     * Get hotel statistics
+     * Apply one price, availability or description change to many rooms.
+     * The selected rooms are updated in chunks of one UPDATE statement per
+     * change, and caches are invalidated once for the whole request.
+     * Returns the number of rooms updated.
      */
-    public Map<String, Object> getHotelStatistics(String adminEmail) {
-        User admin = getUserByEmail(adminEmail);
-        Hotel hotel = admin.getHotel();
+    public int bulkUpdateRooms(RoomBulkUpdateRequest request, String adminEmail) {
+        Hotel hotel = getAdminHotel(adminEmail);
         
-        if (hotel == null) {
-            throw new RuntimeException("Hotel admin is not associated with any hotel");
+        boolean byIds = request.getRoomIds() != null && !request.getRoomIds().isEmpty();
+        if (!byIds && request.getRoomType() == null && prefixPattern(request.getRoomNumberPrefix()) == null) {
+            throw new RuntimeException("Select rooms by id, room type or room number prefix");
+        }
+        if (request.getPricePerNight() != null && request.getPriceChangePercent() != null) {
+            throw new RuntimeException("Set either a new price or a price change, not both");
+        }
+        if (request.getPricePerNight() == null && request.getPriceChangePercent() == null
+                && request.getIsAvailable() == null && request.getDescription() == null) {
+            throw new RuntimeException("No room changes requested");
+        }
+        
+        String prefix = prefixPattern(request.getRoomNumberPrefix());
+        List<RoomRepository.RoomTarget> targets = byIds
+            ? roomRepository.findTargetsByIds(hotel, request.getRoomType(), prefix, request.getRoomIds())
+            : roomRepository.findTargets(hotel, request.getRoomType(), prefix);
+        if (targets.isEmpty()) {
+            return 0;
         }
         
+        // Net change in sellable rooms per type, from rooms whose availability flips
+        Map<RoomType, Integer> inventoryDeltas = new EnumMap<>(RoomType.class);
+        if (request.getIsAvailable() != null) {
+            int delta = request.getIsAvailable() ? 1 : -1;
+            for (RoomRepository.RoomTarget target : targets) {
+                if (!request.getIsAvailable().equals(target.getIsAvailable())) {
+                    inventoryDeltas.merge(target.getRoomType(), delta, Integer::sum);
+                }
+            }
+        }
+        
+        BigDecimal priceFactor = request.getPriceChangePercent() == null ? null
+            : BigDecimal.ONE.add(request.getPriceChangePercent().movePointLeft(2));
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> roomIds = targets.stream().map(RoomRepository.RoomTarget::getId).toList();
+        for (int from = 0; from < roomIds.size(); from += bulkUpdateBatchSize) {
+            List<Long> chunk = roomIds.subList(from, Math.min(from + bulkUpdateBatchSize, roomIds.size()));
+            if (request.getPricePerNight() != null) {
+                roomRepository.updatePrice(chunk, request.getPricePerNight(), now);
+            }
+            if (priceFactor != null) {
+                roomRepository.scalePrice(chunk, priceFactor, now);
+            }
+            if (request.getIsAvailable() != null) {
+                roomRepository.updateAvailability(chunk, request.getIsAvailable(), now);
+            }
+            if (request.getDescription() != null) {
+                roomRepository.updateDescription(chunk, request.getDescription(), now);
+            }
+        }
+        
+        inventoryDeltas.forEach((roomType, delta) -> {
+            if (delta != 0) {
+                eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), roomType, delta));
+            }
+        });
+        if (request.getPricePerNight() != null || priceFactor != null) {
+            eventPublisher.publishEvent(new HotelRatesChangedEvent(hotel.getId()));
+        }
+        return roomIds.size();
+    }
+
+    /**
+     * Get hotel statistics
+     */
+    public Map<String, Object> getHotelStatistics(String adminEmail) {
+        Hotel hotel = getAdminHotel(adminEmail);
+        
         Map<String, Object> stats = new HashMap<>();
         
         // Room statistics
@@ -535,6 +584,67 @@ public class HotelAdminService {
         return dto;
     }
 
+    /**
+     * Id of the hotel the admin belongs to
+     */
+    public Long getAdminHotelId(String adminEmail) {
+        return getAdminHotel(adminEmail).getId();
+    }
+
+    /**
+     * The admin's hotel, as an uninitialized reference when the request context
+     * already resolved it from the token, otherwise through a user lookup
+     */
+    private Hotel getAdminHotel(String adminEmail) {
+        HotelAdminContext context = hotelAdminContextProvider.getIfAvailable();
+        if (context != null && context.isResolvedFor(adminEmail)) {
+            return hotelRepository.getReferenceById(context.getHotelId());
+        }
+        
+        Hotel hotel = getUserByEmail(adminEmail).getHotel();
+        if (hotel == null) {
+            throw new RuntimeException("Hotel admin is not associated with any hotel");
+        }
+        return hotel;
+    }
+
+    private RoomType parseRoomType(String roomType) {
+        return roomType != null && !roomType.trim().isEmpty() ? RoomType.valueOf(roomType.trim()) : null;
+    }
+
+    /**
+     * Prefix pattern for index-friendly LIKE ... ESCAPE '!', or null when there is no search term.
+     * Wildcards in the term match literally, so "1_" selects rooms 1_x and not 10, 11, ...
+     */
+    private String prefixPattern(String search) {
+        if (search == null || search.trim().isEmpty()) {
+            return null;
+        }
+        return search.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    /**
+     * Reservation status named by the search term, if it names one
+     */
+    private ReservationStatus parseStatus(String search) {
+        if (search == null) {
+            return null;
+        }
+        for (ReservationStatus status : ReservationStatus.values()) {
+            if (status.name().equalsIgnoreCase(search.trim())) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lower-cased contains pattern for LIKE, or null when there is no search term
+     */
+    private String likePattern(String search) {
+        return search != null && !search.trim().isEmpty() ? "%" + search.trim().toLowerCase() + "%" : null;
+    }
+
     private UserDTO convertToUserDTO(User user) {
         UserDTO dto = new UserDTO();
         dto.setId(user.getId());
@@ -584,40 +694,50 @@ public class HotelAdminService {
     @Transactional(readOnly = true)
     public Page<BookingResponse> getHotelBookings(Long hotelId, int page, int size, String search) {
         // Verify hotel exists and user has access
-        Hotel hotel = hotelRepository.findById(hotelId)
-            .orElseThrow(() -> new RuntimeException("Hotel not found with id: " + hotelId));
-
-        Pageable pageable = PageRequest.of(page, size);
-        List<Reservation> allReservations = reservationRepository.findByHotelId(hotelId);
-        
-        // Apply search filter if provided
-        List<Reservation> filteredReservations = allReservations;
-        if (search != null && !search.trim().isEmpty()) {
-            String searchLower = search.toLowerCase();
-            filteredReservations = allReservations.stream()
-                .filter(reservation -> 
-                    reservation.getGuest().getFirstName().toLowerCase().contains(searchLower) ||
-                    reservation.getGuest().getLastName().toLowerCase().contains(searchLower) ||
-                    reservation.getGuest().getEmail().toLowerCase().contains(searchLower) ||
-                    reservation.getRoom().getRoomNumber().toLowerCase().contains(searchLower) ||
-                    reservation.getStatus().name().toLowerCase().contains(searchLower)
-                )
-                .collect(Collectors.toList());
-        }
-
-        // Sort by check-in date descending
-        filteredReservations.sort((r1, r2) -> r2.getCheckInDate().compareTo(r1.getCheckInDate()));
-
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredReservations.size());
-        List<Reservation> pageContent = filteredReservations.subList(start, end);
-
-        List<BookingResponse> bookingResponses = pageContent.stream()
-            .map(this::convertToBookingResponse)
-            .collect(Collectors.toList());
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new RuntimeException("Hotel not found with id: " + hotelId);
+        }
+
+        String prefix = prefixPattern(search);
+        return reservationRepository.findHotelBookingsPage(hotelId, prefix, parseStatus(search), PageRequest.of(page, size))
+            .map(this::convertToBookingResponse);
+    }
+
+    /**
+     * Get a hotel's bookings one keyset page at a time, latest check-in first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getHotelBookingFeed(Long hotelId, String cursor, Integer size, String search) {
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_BOOKING_PAGE_SIZE) : BOOKING_PAGE_SIZE;
+
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            try {
+                String[] keyset = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                cursorDate = LocalDate.parse(keyset[0]);
+                cursorId = Long.valueOf(keyset[1]);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid booking cursor");
+            }
+        }
+
+        // One extra row tells whether there is another page
+        List<Reservation> reservations = reservationRepository.findHotelBookings(hotelId, prefixPattern(search),
+            parseStatus(search), cursorDate, cursorId, PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (reservations.size() > pageSize) {
+            reservations = reservations.subList(0, pageSize);
+            Reservation last = reservations.get(pageSize - 1);
+            String keyset = last.getCheckInDate() + "|" + last.getId();
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(keyset.getBytes(StandardCharsets.UTF_8));
+        }
 
-        return new PageImpl<>(bookingResponses, pageable, filteredReservations.size());
+        List<BookingResponse> content = reservations.stream()
+            .map(this::convertToBookingResponse)
+            .toList();
+        return new CursorPage<>(content, nextCursor);
     }
 
     /**
@@ -625,12 +745,12 @@ public class HotelAdminService {
      */
     @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long reservationId, Long hotelId) {
-        // Find the reservation
-        Reservation reservation = reservationRepository.findById(reservationId)
+        // Lock the reservation so a cancellation cannot queue a refund between the check and the delete
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
             .orElseThrow(() -> new RuntimeException("Booking not found with id: " + reservationId));
         
         // Verify the reservation belongs to the specified hotel
-        if (!reservation.getRoom().getHotel().getId().equals(hotelId)) {
+        if (!reservation.getHotel().getId().equals(hotelId)) {
             throw new RuntimeException("Booking does not belong to your hotel");
         }
         
@@ -642,66 +762,37 @@ public class HotelAdminService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getHotelBookingStats(Long hotelId) {
-        List<Reservation> allReservations = reservationRepository.findByHotelId(hotelId);
+        return hotelStatsService.getBookingStats(hotelId);
+    }
+
+    /**
+     * Update booking status
+     */
+    public BookingResponse updateBookingStatus(Long reservationId, ReservationStatus newStatus, Long hotelId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + reservationId));
         
-        Map<String, Object> stats = new HashMap<>();
+        if (!reservation.getHotel().getId().equals(hotelId)) {
+            throw new RuntimeException("Booking does not belong to your hotel");
+        }
         
-        // Overall stats
-        stats.put("totalBookings", allReservations.size());
+        reservation = reservationStateMachine.transition(reservation, newStatus);
         
-        // Status breakdown
-        Map<String, Long> statusBreakdown = allReservations.stream()
-            .collect(Collectors.groupingBy(
-                r -> r.getStatus().name(),
-                Collectors.counting()
-            ));
-        stats.put("statusBreakdown", statusBreakdown);
-        
-        // Monthly revenue (current year)
-        LocalDate startOfYear = LocalDate.now().withDayOfYear(1);
-        BigDecimal currentYearRevenue = allReservations.stream()
-            .filter(r -> r.getCheckInDate().isAfter(startOfYear.minusDays(1)))
-            .filter(r -> r.getStatus() == ReservationStatus.CONFIRMED || r.getStatus() == ReservationStatus.CHECKED_IN || r.getStatus() == ReservationStatus.CHECKED_OUT)
-            .map(Reservation::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        stats.put("currentYearRevenue", currentYearRevenue);
-        
-        // This month's bookings
-        LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        long thisMonthBookings = allReservations.stream()
-            .filter(r -> r.getCheckInDate().isAfter(startOfMonth.minusDays(1)))
-            .count();
-        stats.put("thisMonthBookings", thisMonthBookings);
-        
-        // Upcoming check-ins (next 7 days)
-        LocalDate today = LocalDate.now();
-        LocalDate nextWeek = today.plusDays(7);
-        long upcomingCheckIns = allReservations.stream()
-            .filter(r -> r.getCheckInDate().isAfter(today.minusDays(1)) && r.getCheckInDate().isBefore(nextWeek.plusDays(1)))
-            .filter(r -> r.getStatus() == ReservationStatus.CONFIRMED)
-            .count();
-        stats.put("upcomingCheckIns", upcomingCheckIns);
-        
-        // Upcoming check-outs (next 7 days)
-        long upcomingCheckOuts = allReservations.stream()
-            .filter(r -> r.getCheckOutDate().isAfter(today.minusDays(1)) && r.getCheckOutDate().isBefore(nextWeek.plusDays(1)))
-            .filter(r -> r.getStatus() == ReservationStatus.CHECKED_IN)
-            .count();
-        stats.put("upcomingCheckOuts", upcomingCheckOuts);
-        
-        return stats;
+        return convertToBookingResponse(reservation);
     }
 
     /**
-     * Update booking status
+     * Assign a specific room to a booking
      */
-    public BookingResponse updateBookingStatus(Long reservationId, ReservationStatus newStatus) {
+    public BookingResponse assignBookingRoom(Long reservationId, Long roomId, Long hotelId) {
         Reservation reservation = reservationRepository.findById(reservationId)
-            .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + reservationId));
+            .orElseThrow(() -> new RuntimeException("Booking not found with id: " + reservationId));
         
-        reservation.setStatus(newStatus);
-        reservation = reservationRepository.save(reservation);
+        if (!reservation.getHotel().getId().equals(hotelId)) {
+            throw new RuntimeException("Booking does not belong to your hotel");
+        }
         
+        roomAssignmentService.assignRoom(reservation, roomId);
         return convertToBookingResponse(reservation);
     }
 
@@ -709,12 +800,12 @@ public class HotelAdminService {
      * Delete booking (reservation)
      */
     public void deleteBooking(Long reservationId, Long hotelId) {
-        // Find the reservation
-        Reservation reservation = reservationRepository.findById(reservationId)
+        // Lock the reservation so a cancellation cannot queue a refund between the check and the delete
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
             .orElseThrow(() -> new RuntimeException("Booking not found with id: " + reservationId));
         
         // Verify the reservation belongs to the specified hotel
-        if (!reservation.getRoom().getHotel().getId().equals(hotelId)) {
+        if (!reservation.getHotel().getId().equals(hotelId)) {
             throw new RuntimeException("Booking does not belong to your hotel");
         }
         
@@ -722,8 +813,24 @@ public class HotelAdminService {
         if (reservation.getStatus() == ReservationStatus.CHECKED_IN) {
             throw new RuntimeException("Cannot delete a booking with checked-in status");
         }
+        if (refundService.hasOpenRefunds(reservationId)) {
+            throw new RuntimeException("Cannot delete a booking while a refund for it is still being processed");
+        }
         
         reservationRepository.delete(reservation);
+        if (reservation.getStatus().holdsInventory()) {
+            inventoryService.release(reservation);
+        }
+        publishChange(reservation);
+    }
+
+    /**
+     * Tell caches and listeners that a reservation changed
+     */
+    private void publishChange(Reservation reservation) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+            reservation.getId(), reservation.getGuest().getId(), reservation.getHotel().getId(),
+            reservation.getCheckInDate(), reservation.getCheckOutDate()));
     }
 
     /**
@@ -733,7 +840,7 @@ public class HotelAdminService {
         BookingResponse response = new BookingResponse();
         response.setReservationId(reservation.getId());
         response.setStatus(reservation.getStatus().name());
-        response.setConfirmationNumber(generateConfirmationNumber(reservation.getId()));
+        response.setConfirmationNumber(reservation.getConfirmationNumber());
         response.setCheckInDate(reservation.getCheckInDate());
         response.setCheckOutDate(reservation.getCheckOutDate());
         response.setTotalAmount(reservation.getTotalAmount());
@@ -741,12 +848,15 @@ public class HotelAdminService {
         response.setCreatedAt(reservation.getCreatedAt());
         
         // Room details
+        Hotel hotel = reservation.getHotel();
+        response.setRoomType(reservation.getRoomType().name());
+        response.setHotelName(hotel.getName());
+        response.setHotelAddress(hotel.getAddress());
         Room room = reservation.getRoom();
-        response.setRoomNumber(room.getRoomNumber());
-        response.setRoomType(room.getRoomType().name());
-        response.setPricePerNight(room.getPricePerNight());
-        response.setHotelName(room.getHotel().getName());
-        response.setHotelAddress(room.getHotel().getAddress());
+        if (room != null) {
+            response.setRoomNumber(room.getRoomNumber());
+            response.setPricePerNight(room.getPricePerNight());
+        }
         
         // Guest details
         User guest = reservation.getGuest();
@@ -762,11 +872,4 @@ public class HotelAdminService {
         
         return response;
     }
-
-    /**
-     * Generate confirmation number
-     */
-    private String generateConfirmationNumber(Long reservationId) {
-        return String.format("BK%08d", reservationId);
-    }
 }
@@ -1,9 +1,12 @@
 package com.bookmyhotel.service;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,7 +16,10 @@ import com.bookmyhotel.dto.HotelDTO;
 import com.bookmyhotel.dto.RoomDTO;
 import com.bookmyhotel.entity.Hotel;
 import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
 import com.bookmyhotel.entity.User;
+import com.bookmyhotel.event.HotelRatesChangedEvent;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
 import com.bookmyhotel.exception.ResourceNotFoundException;
 import com.bookmyhotel.repository.HotelRepository;
 import com.bookmyhotel.repository.RoomRepository;
@@ -35,6 +41,9 @@ public class HotelManagementService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     /**
      * Get all hotels with pagination
      */
@@ -153,6 +162,7 @@ public class HotelManagementService {
         room.setTenantId(hotel.getTenantId());
         
         room = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotelId, room.getRoomType(), 1));
         return convertRoomToDTO(room);
     }
     
@@ -163,6 +173,8 @@ public class HotelManagementService {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
         
+        RoomType previousType = room.getRoomType();
+        BigDecimal previousPrice = room.getPricePerNight();
         room.setRoomNumber(roomDTO.getRoomNumber());
         room.setRoomType(roomDTO.getRoomType());
         room.setPricePerNight(roomDTO.getPricePerNight());
@@ -170,6 +182,14 @@ public class HotelManagementService {
         room.setDescription(roomDTO.getDescription());
         
         room = roomRepository.save(room);
+        if (Boolean.TRUE.equals(room.getIsAvailable()) && previousType != room.getRoomType()) {
+            Long hotelId = room.getHotel().getId();
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotelId, previousType, -1));
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotelId, room.getRoomType(), 1));
+        }
+        if (!Objects.equals(previousPrice, room.getPricePerNight())) {
+            eventPublisher.publishEvent(new HotelRatesChangedEvent(room.getHotel().getId()));
+        }
         return convertRoomToDTO(room);
     }
     
@@ -180,8 +200,11 @@ public class HotelManagementService {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
         
-        room.setIsAvailable(false);
-        roomRepository.save(room);
+        if (Boolean.TRUE.equals(room.getIsAvailable())) {
+            room.setIsAvailable(false);
+            roomRepository.save(room);
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(room.getHotel().getId(), room.getRoomType(), -1));
+        }
     }
     
     /**
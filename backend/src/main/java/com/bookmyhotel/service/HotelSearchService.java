@@ -1,6 +1,8 @@
 package com.bookmyhotel.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,9 @@ public class HotelSearchService {
     @Autowired
     private RoomRepository roomRepository;
     
+    @Autowired
+    private PricingService pricingService;
+    
     /**
      * Search hotels based on criteria
      */
@@ -74,8 +79,8 @@ public class HotelSearchService {
         );
         
         return availableRooms.stream()
-            .filter(room -> isRoomInPriceRange(room, request))
-            .map(this::convertToAvailableRoomDto)
+            .map(room -> convertToAvailableRoomDto(room, request))
+            .filter(dto -> isRoomInPriceRange(dto, request))
             .collect(Collectors.toList());
     }
     
@@ -117,14 +122,23 @@ public class HotelSearchService {
     }
     
     /**
-     * Convert Room entity to AvailableRoomDto
+     * Convert Room entity to AvailableRoomDto, priced for the requested stay.
+     * The nightly price is the stay's average so it matches what booking charges.
      */
-    private HotelSearchResult.AvailableRoomDto convertToAvailableRoomDto(Room room) {
+    private HotelSearchResult.AvailableRoomDto convertToAvailableRoomDto(Room room, HotelSearchRequest request) {
         HotelSearchResult.AvailableRoomDto dto = new HotelSearchResult.AvailableRoomDto();
         dto.setId(room.getId());
         dto.setRoomNumber(room.getRoomNumber());
         dto.setRoomType(room.getRoomType().name());
-        dto.setPricePerNight(room.getPricePerNight());
+        
+        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
+        if (nights > 0) {
+            BigDecimal totalPrice = pricingService.quote(room, request.getCheckInDate(), request.getCheckOutDate());
+            dto.setTotalPrice(totalPrice);
+            dto.setPricePerNight(totalPrice.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP));
+        } else {
+            dto.setPricePerNight(room.getPricePerNight());
+        }
         dto.setCapacity(room.getCapacity());
         dto.setDescription(room.getDescription());
         return dto;
@@ -133,7 +147,7 @@ public class HotelSearchService {
     /**
      * Check if room is within price range
      */
-    private boolean isRoomInPriceRange(Room room, HotelSearchRequest request) {
+    private boolean isRoomInPriceRange(HotelSearchResult.AvailableRoomDto room, HotelSearchRequest request) {
         BigDecimal price = room.getPricePerNight();
         
         if (request.getMinPrice() != null && price.compareTo(BigDecimal.valueOf(request.getMinPrice())) < 0) {
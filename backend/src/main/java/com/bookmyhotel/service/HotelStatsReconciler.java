@@ -0,0 +1,40 @@
+package com.bookmyhotel.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.repository.HotelRepository;
+
+/**
+ * Nightly rebuild of the booking statistics rollup, one transaction per hotel,
+ * correcting anything the event-driven updates missed
+ */
+@Component
+public class HotelStatsReconciler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HotelStatsReconciler.class);
+    
+    @Autowired
+    private HotelStatsService hotelStatsService;
+    
+    @Autowired
+    private HotelRepository hotelRepository;
+    
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 15 3 * * *}")
+    public void reconcile() {
+        int hotels = 0;
+        for (Hotel hotel : hotelRepository.findAll()) {
+            try {
+                hotelStatsService.rebuildHotel(hotel.getId());
+                hotels++;
+            } catch (RuntimeException e) {
+                logger.warn("Could not rebuild booking stats for hotel {}", hotel.getId(), e);
+            }
+        }
+        logger.info("Rebuilt booking stats for {} hotels", hotels);
+    }
+}
@@ -0,0 +1,156 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bookmyhotel.entity.HotelDailyStats;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.bookmyhotel.event.ReservationRescheduledEvent;
+import com.bookmyhotel.repository.HotelDailyStatsRepository;
+
+/**
+ * Booking statistics served from the hotel_daily_stats rollup.
+ * Every committed reservation change rebuilds the few days it touches;
+ * HotelStatsReconciler rebuilds whole hotels nightly.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HotelStatsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HotelStatsService.class);
+    
+    private static final Set<ReservationStatus> REVENUE_STATUSES = EnumSet.of(
+        ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    @Autowired
+    private HotelDailyStatsRepository statsRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.stats.rebuild-attempts:3}")
+    private int rebuildAttempts;
+    
+    /**
+     * Dashboard booking statistics for a hotel
+     */
+    public Map<String, Object> getBookingStats(Long hotelId) {
+        Map<String, Object> stats = new HashMap<>();
+        
+        // Overall stats and status breakdown
+        Map<String, Long> statusBreakdown = new HashMap<>();
+        long totalBookings = 0;
+        for (Object[] row : statsRepository.sumCheckInsByStatus(hotelId)) {
+            long count = ((Number) row[1]).longValue();
+            if (count > 0) {
+                statusBreakdown.put(((ReservationStatus) row[0]).name(), count);
+                totalBookings += count;
+            }
+        }
+        stats.put("totalBookings", totalBookings);
+        stats.put("statusBreakdown", statusBreakdown);
+        
+        LocalDate today = LocalDate.now();
+        LocalDate startOfYear = today.withDayOfYear(1);
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate nextWeek = today.plusDays(7);
+        
+        BigDecimal currentYearRevenue = BigDecimal.ZERO;
+        long thisMonthBookings = 0;
+        long upcomingCheckIns = 0;
+        long upcomingCheckOuts = 0;
+        LocalDate fromDate = startOfYear.isBefore(startOfMonth) ? startOfYear : startOfMonth;
+        for (HotelDailyStats day : statsRepository.findByHotelIdAndStatDateGreaterThanEqual(hotelId, fromDate)) {
+            LocalDate date = day.getStatDate();
+            if (!date.isBefore(startOfYear) && REVENUE_STATUSES.contains(day.getStatus())) {
+                currentYearRevenue = currentYearRevenue.add(day.getRevenue());
+            }
+            if (!date.isBefore(startOfMonth)) {
+                thisMonthBookings += day.getCheckIns();
+            }
+            if (!date.isBefore(today) && !date.isAfter(nextWeek)) {
+                if (day.getStatus() == ReservationStatus.CONFIRMED) {
+                    upcomingCheckIns += day.getCheckIns();
+                }
+                if (day.getStatus() == ReservationStatus.CHECKED_IN) {
+                    upcomingCheckOuts += day.getCheckOuts();
+                }
+            }
+        }
+        stats.put("currentYearRevenue", currentYearRevenue);
+        stats.put("thisMonthBookings", thisMonthBookings);
+        stats.put("upcomingCheckIns", upcomingCheckIns);
+        stats.put("upcomingCheckOuts", upcomingCheckOuts);
+        
+        return stats;
+    }
+    
+    /**
+     * Rebuild the days a committed reservation change touched, from the dates
+     * the event carries so a deleted reservation's days are rebuilt too.
+     * A rebuild that loses a lock race is retried in a fresh transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<LocalDate> days = new TreeSet<>();
+        days.add(event.getCheckInDate());
+        days.add(event.getCheckOutDate());
+        if (event instanceof ReservationRescheduledEvent rescheduled) {
+            days.add(rescheduled.getPreviousCheckInDate());
+            days.add(rescheduled.getPreviousCheckOutDate());
+        }
+        
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transaction.executeWithoutResult(status -> rebuildDays(event.getHotelId(), days));
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= rebuildAttempts) {
+                    logger.warn("Could not rebuild booking stats of hotel {} for {} after {} attempts; " +
+                                "the nightly reconcile will correct them", event.getHotelId(), days, attempt, e);
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Recompute the rollup rows of some days of a hotel
+     */
+    @Transactional
+    public void rebuildDays(Long hotelId, Set<LocalDate> days) {
+        statsRepository.zeroDays(hotelId, days);
+        statsRepository.upsertDays(hotelId, days);
+    }
+    
+    /**
+     * Recompute all rollup rows of a hotel
+     */
+    @Transactional
+    public int rebuildHotel(Long hotelId) {
+        statsRepository.deleteHotel(hotelId);
+        return statsRepository.upsertHotel(hotelId);
+    }
+}
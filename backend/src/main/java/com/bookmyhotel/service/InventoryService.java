@@ -0,0 +1,149 @@
+package com.bookmyhotel.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.RoomRepository;
+import com.bookmyhotel.repository.RoomTypeInventoryRepository;
+
+/**
+ * Counter-based inventory per (hotel, room type, night).
+ * Every active reservation holds one unit on each night of its stay, whether or
+ * not a concrete room has been assigned yet.
+ */
+@Service
+@Transactional
+public class InventoryService {
+    
+    @Autowired
+    private RoomTypeInventoryRepository inventoryRepository;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    /**
+     * Take one unit of a room type for every night in [checkInDate, checkOutDate).
+     * Throws when any night is sold out; the surrounding transaction then rolls
+     * back the nights already taken.
+     */
+    public void reserve(Long hotelId, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        if (nights <= 0) {
+            return;
+        }
+        
+        ensureSeeded(hotelId, roomType, checkInDate, checkOutDate);
+        
+        int taken = inventoryRepository.reserve(hotelId, roomType.name(), checkInDate, checkOutDate);
+        if (taken < nights) {
+            throw new BookingException("No " + roomType.name() + " rooms available for the selected dates");
+        }
+    }
+    
+    /**
+     * Give back one unit of a room type for every night in [checkInDate, checkOutDate)
+     */
+    public void release(Long hotelId, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (checkInDate.isBefore(checkOutDate)) {
+            inventoryRepository.release(hotelId, roomType.name(), checkInDate, checkOutDate);
+        }
+    }
+    
+    /**
+     * Move a held stay to new dates, touching only the nights that differ.
+     * Nights gained are taken before nights lost are given back, so a failed
+     * swap leaves nothing to undo beyond the surrounding transaction.
+     */
+    public void swap(Long hotelId, RoomType roomType,
+                     LocalDate oldCheckIn, LocalDate oldCheckOut,
+                     LocalDate newCheckIn, LocalDate newCheckOut) {
+        if (!newCheckIn.isBefore(oldCheckOut) || !oldCheckIn.isBefore(newCheckOut)) {
+            // No shared nights
+            reserve(hotelId, roomType, newCheckIn, newCheckOut);
+            release(hotelId, roomType, oldCheckIn, oldCheckOut);
+            return;
+        }
+        
+        if (newCheckIn.isBefore(oldCheckIn)) {
+            reserve(hotelId, roomType, newCheckIn, oldCheckIn);
+        }
+        if (newCheckOut.isAfter(oldCheckOut)) {
+            reserve(hotelId, roomType, oldCheckOut, newCheckOut);
+        }
+        if (oldCheckIn.isBefore(newCheckIn)) {
+            release(hotelId, roomType, oldCheckIn, newCheckIn);
+        }
+        if (oldCheckOut.isAfter(newCheckOut)) {
+            release(hotelId, roomType, newCheckOut, oldCheckOut);
+        }
+    }
+    
+    /**
+     * Give back the nights held by a reservation
+     */
+    public void release(Reservation reservation) {
+        release(reservation.getHotel().getId(), reservation.getRoomType(),
+            reservation.getCheckInDate(), reservation.getCheckOutDate());
+    }
+    
+    /**
+     * Apply room additions, removals and availability toggles to future nights
+     */
+    @EventListener
+    public void onRoomInventoryChanged(RoomInventoryChangedEvent event) {
+        if (event.getDelta() != 0) {
+            inventoryRepository.adjustCapacity(event.getHotelId(), event.getRoomType().name(),
+                LocalDate.now(), event.getDelta());
+        }
+    }
+    
+    /**
+     * Create missing counter rows, deriving capacity from sellable rooms and
+     * booked units from the reservations already on those nights
+     */
+    private void ensureSeeded(Long hotelId, RoomType roomType, LocalDate fromDate, LocalDate toDate) {
+        long nights = ChronoUnit.DAYS.between(fromDate, toDate);
+        List<java.sql.Date> seeded = inventoryRepository.findStayDates(hotelId, roomType.name(), fromDate, toDate);
+        if (seeded.size() >= nights) {
+            return;
+        }
+        
+        Set<LocalDate> existing = new HashSet<>();
+        for (java.sql.Date date : seeded) {
+            existing.add(date.toLocalDate());
+        }
+        
+        int capacity = (int) roomRepository.countByHotelIdAndRoomTypeAndIsAvailableTrue(hotelId, roomType);
+        int[] booked = new int[(int) nights];
+        for (Reservation reservation : reservationRepository.findActiveByHotelAndRoomTypeInRange(hotelId, roomType, fromDate, toDate)) {
+            LocalDate start = reservation.getCheckInDate().isAfter(fromDate) ? reservation.getCheckInDate() : fromDate;
+            LocalDate end = reservation.getCheckOutDate().isBefore(toDate) ? reservation.getCheckOutDate() : toDate;
+            for (LocalDate night = start; night.isBefore(end); night = night.plusDays(1)) {
+                booked[(int) ChronoUnit.DAYS.between(fromDate, night)]++;
+            }
+        }
+        
+        for (int i = 0; i < nights; i++) {
+            LocalDate night = fromDate.plusDays(i);
+            if (!existing.contains(night)) {
+                inventoryRepository.insertIfAbsent(hotelId, roomType.name(), night, capacity, booked[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.bookmyhotel.entity.RoomType;
+
+/**
+ * Occupancy and revenue cube for one hotel over a fixed window of nights.
+ * For each room type, rooms sold and revenue (in cents) per night are kept in
+ * pairs of Fenwick trees supporting range updates and range sums, so a stay is
+ * added as one range whatever its length, and both a stay update and a sum over
+ * any date range cost O(log nights).
+ * Each reservation's contribution is remembered so a later change replaces it.
+ */
+public class OccupancyCube {
+    
+    private static final int TYPES = RoomType.values().length;
+    
+    private final LocalDate startDate;
+    private final int days;
+    private final int[] capacity;
+    private final RangeFenwick[] roomsSold;
+    private final RangeFenwick[] revenueCents;
+    private final Map<Long, long[]> contributions = new HashMap<>();
+    
+    /**
+     * @param startDate first night in the window
+     * @param days number of nights in the window
+     * @param capacity sellable rooms per night, indexed by room type ordinal
+     */
+    public OccupancyCube(LocalDate startDate, int days, int[] capacity) {
+        this.startDate = startDate;
+        this.days = days;
+        this.capacity = capacity.clone();
+        this.roomsSold = new RangeFenwick[TYPES];
+        this.revenueCents = new RangeFenwick[TYPES];
+        for (int type = 0; type < TYPES; type++) {
+            roomsSold[type] = new RangeFenwick(days);
+            revenueCents[type] = new RangeFenwick(days);
+        }
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    /**
+     * Record a sold stay, replacing whatever the reservation contributed before
+     */
+    public synchronized void put(Long reservationId, RoomType roomType,
+                                 LocalDate checkInDate, LocalDate checkOutDate, BigDecimal totalAmount) {
+        remove(reservationId);
+        
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        if (nights <= 0) {
+            return;
+        }
+        long totalCents = totalAmount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        long[] contribution = {
+            roomType.ordinal(),
+            ChronoUnit.DAYS.between(startDate, checkInDate),
+            nights,
+            totalCents
+        };
+        apply(contribution, 1);
+        contributions.put(reservationId, contribution);
+    }
+    
+    /**
+     * Drop whatever a reservation contributed
+     */
+    public synchronized void remove(Long reservationId) {
+        long[] previous = contributions.remove(reservationId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+    
+    /**
+     * Occupancy, ADR and RevPAR for nights in [fromDate, toDate), for one room type or all when null.
+     * Nights outside the window count as having no capacity and no sales.
+     */
+    public synchronized OccupancyKpi query(RoomType roomType, LocalDate fromDate, LocalDate toDate) {
+        int from = (int) Math.max(0, Math.min(days, ChronoUnit.DAYS.between(startDate, fromDate)));
+        int to = (int) Math.max(0, Math.min(days, ChronoUnit.DAYS.between(startDate, toDate)));
+        
+        long available = 0;
+        long sold = 0;
+        long revenue = 0;
+        if (from < to) {
+            for (int type = 0; type < TYPES; type++) {
+                if (roomType != null && type != roomType.ordinal()) {
+                    continue;
+                }
+                available += (long) capacity[type] * (to - from);
+                sold += roomsSold[type].prefix(to) - roomsSold[type].prefix(from);
+                revenue += revenueCents[type].prefix(to) - revenueCents[type].prefix(from);
+            }
+        }
+        return new OccupancyKpi(available, sold, revenue);
+    }
+    
+    /**
+     * Add (sign 1) or take back (sign -1) one stay as a range of nights clipped to
+     * the window, spreading the total evenly and putting any leftover cents on the first night
+     */
+    private void apply(long[] contribution, int sign) {
+        int type = (int) contribution[0];
+        long first = contribution[1];
+        long nights = contribution[2];
+        long totalCents = contribution[3];
+        long perNight = totalCents / nights;
+        long leftover = totalCents - perNight * nights;
+        
+        int from = (int) Math.max(0, Math.min(days, first));
+        int to = (int) Math.max(0, Math.min(days, first + nights));
+        if (from >= to) {
+            return;
+        }
+        roomsSold[type].add(from, to, sign);
+        revenueCents[type].add(from, to, sign * perNight);
+        if (first == from && leftover != 0) {
+            revenueCents[type].add(from, from + 1, sign * leftover);
+        }
+    }
+    
+    /**
+     * Two Fenwick trees over nights: adding a value to a range of nights and
+     * summing the first count nights both cost O(log nights)
+     */
+    private static final class RangeFenwick {
+        
+        private final long[] slope;
+        private final long[] offset;
+        
+        RangeFenwick(int days) {
+            this.slope = new long[days + 1];
+            this.offset = new long[days + 1];
+        }
+        
+        /**
+         * Add delta to every night in [from, to)
+         */
+        void add(int from, int to, long delta) {
+            update(slope, from, delta);
+            update(slope, to, -delta);
+            update(offset, from, delta * from);
+            update(offset, to, -delta * to);
+        }
+        
+        /**
+         * Sum of the first count nights
+         */
+        long prefix(int count) {
+            return sum(slope, count) * count - sum(offset, count);
+        }
+        
+        private static void update(long[] tree, int index, long delta) {
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+        
+        private static long sum(long[] tree, int count) {
+            long sum = 0;
+            for (int i = count; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+    
+    /**
+     * Cube totals for a date range and the KPIs derived from them
+     */
+    public static final class OccupancyKpi {
+        
+        private final long roomNightsAvailable;
+        private final long roomNightsSold;
+        private final long revenueCents;
+        
+        public OccupancyKpi(long roomNightsAvailable, long roomNightsSold, long revenueCents) {
+            this.roomNightsAvailable = roomNightsAvailable;
+            this.roomNightsSold = roomNightsSold;
+            this.revenueCents = revenueCents;
+        }
+        
+        public long getRoomNightsAvailable() {
+            return roomNightsAvailable;
+        }
+        
+        public long getRoomNightsSold() {
+            return roomNightsSold;
+        }
+        
+        public BigDecimal getRevenue() {
+            return BigDecimal.valueOf(revenueCents, 2);
+        }
+        
+        /**
+         * Share of available room nights sold, 0 to 1
+         */
+        public BigDecimal getOccupancyRate() {
+            return roomNightsAvailable == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(roomNightsSold).divide(BigDecimal.valueOf(roomNightsAvailable), 4, RoundingMode.HALF_UP);
+        }
+        
+        /**
+         * Average daily rate: revenue per room night sold
+         */
+        public BigDecimal getAdr() {
+            return roomNightsSold == 0 ? BigDecimal.ZERO
+                : getRevenue().divide(BigDecimal.valueOf(roomNightsSold), 2, RoundingMode.HALF_UP);
+        }
+        
+        /**
+         * Revenue per available room night
+         */
+        public BigDecimal getRevpar() {
+            return roomNightsAvailable == 0 ? BigDecimal.ZERO
+                : getRevenue().divide(BigDecimal.valueOf(roomNightsAvailable), 2, RoundingMode.HALF_UP);
+        }
+    }
+}
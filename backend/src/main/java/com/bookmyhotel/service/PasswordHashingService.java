@@ -0,0 +1,106 @@
+package com.bookmyhotel.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.bookmyhotel.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt hashing and verification on a small bounded pool.
+ * Request threads hand the work over and wait for it, so a burst of sign-ins
+ * occupies at most the pool's threads' worth of CPU; once the queue is full,
+ * callers get a TooManyRequestsException instead of piling up.
+ */
+@Component
+public class PasswordHashingService {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    
+    private final Timer matchesLatency;
+    private final Timer encodeLatency;
+    private final Counter rejected;
+    
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.auth.hashing.threads:2}") int threads,
+                                  @Value("${app.auth.hashing.queue-capacity:32}") int queueCapacity,
+                                  @Value("${app.auth.hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing");
+                thread.setDaemon(true);
+                return thread;
+            });
+        
+        this.matchesLatency = Timer.builder("bookmyhotel.auth.password_hashing").tag("operation", "matches").register(meterRegistry);
+        this.encodeLatency = Timer.builder("bookmyhotel.auth.password_hashing").tag("operation", "encode").register(meterRegistry);
+        this.rejected = Counter.builder("bookmyhotel.auth.password_hashing.rejected").register(meterRegistry);
+        Gauge.builder("bookmyhotel.auth.password_hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+    
+    /**
+     * Check a raw password against a stored hash
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesLatency, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * Hash a raw password for storage
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(encodeLatency, () -> passwordEncoder.encode(rawPassword));
+    }
+    
+    private <T> T run(Timer latency, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> latency.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-in requests, please try again shortly", 1);
+        }
+        
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-in requests, please try again shortly", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
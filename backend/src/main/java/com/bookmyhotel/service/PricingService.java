@@ -0,0 +1,223 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.dto.RateRuleDTO;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.RateRule;
+import com.bookmyhotel.entity.RateRuleType;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.event.HotelRatesChangedEvent;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.ResourceNotFoundException;
+import com.bookmyhotel.repository.HotelRepository;
+import com.bookmyhotel.repository.RateRuleRepository;
+import com.bookmyhotel.repository.RoomRepository;
+
+/**
+ * Quotes stays from per-hotel rate tables compiled from the hotel's rate rules.
+ * Booking and search both price through here so their totals always agree.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PricingService {
+
+    @Autowired
+    private RateRuleRepository rateRuleRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pricing.horizon-days:400}")
+    private int horizonDays;
+
+    private final Map<Long, CompletableFuture<RateTable>> rateTables = new ConcurrentHashMap<>();
+
+    /**
+     * Total price of a stay in a specific room
+     */
+    public BigDecimal quote(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return getRateTable(room.getHotel().getId())
+            .quote(room.getRoomType(), room.getPricePerNight(), checkInDate, checkOutDate);
+    }
+
+    /**
+     * Total price of a stay in a room type, from the type's lowest room price
+     */
+    public BigDecimal quote(Long hotelId, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        BigDecimal total = getRateTable(hotelId).quote(roomType, checkInDate, checkOutDate);
+        if (total == null) {
+            throw new BookingException("Hotel has no " + roomType.name() + " rooms");
+        }
+        return total;
+    }
+
+    /**
+     * Compiled rate table for a hotel, rebuilt when stale or invalidated.
+     * The first caller compiles outside the map lock while later callers wait on
+     * its future. An invalidation that arrives meanwhile removes that future, so
+     * the table it yields serves only the callers already waiting for it.
+     */
+    public RateTable getRateTable(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        CompletableFuture<RateTable> future = rateTables.get(hotelId);
+        if (future == null || isStale(future, today)) {
+            CompletableFuture<RateTable> created = new CompletableFuture<>();
+            future = rateTables.compute(hotelId, (id, current) ->
+                current != null && !isStale(current, today) ? current : created);
+            if (future == created) {
+                try {
+                    created.complete(compile(hotelId, today));
+                } catch (RuntimeException e) {
+                    rateTables.remove(hotelId, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Get rate rules for a hotel
+     */
+    public List<RateRuleDTO> getRateRules(Long hotelId) {
+        return rateRuleRepository.findByHotelIdOrderByIdAsc(hotelId).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Add a rate rule to a hotel
+     */
+    @Transactional
+    public RateRuleDTO addRateRule(Long hotelId, RateRuleDTO ruleDTO) {
+        Hotel hotel = hotelRepository.findById(hotelId)
+            .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + hotelId));
+        validateRule(ruleDTO);
+
+        RateRule rule = new RateRule();
+        rule.setHotel(hotel);
+        rule.setTenantId(hotel.getTenantId());
+        rule.setRoomType(ruleDTO.getRoomType());
+        rule.setRuleType(ruleDTO.getRuleType());
+        rule.setStartDate(ruleDTO.getStartDate());
+        rule.setEndDate(ruleDTO.getEndDate());
+        rule.setAmount(ruleDTO.getAmount());
+        rule.setMinNights(ruleDTO.getMinNights());
+        rule = rateRuleRepository.save(rule);
+
+        eventPublisher.publishEvent(new HotelRatesChangedEvent(hotelId));
+        return convertToDTO(rule);
+    }
+
+    /**
+     * Remove a rate rule from a hotel
+     */
+    @Transactional
+    public void deleteRateRule(Long hotelId, Long ruleId) {
+        RateRule rule = rateRuleRepository.findById(ruleId)
+            .orElseThrow(() -> new ResourceNotFoundException("Rate rule not found with id: " + ruleId));
+        if (!rule.getHotel().getId().equals(hotelId)) {
+            throw new ResourceNotFoundException("Rate rule not found with id: " + ruleId);
+        }
+
+        rateRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new HotelRatesChangedEvent(hotelId));
+    }
+
+    /**
+     * Drop the compiled table once rule or room price changes are committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelRatesChanged(HotelRatesChangedEvent event) {
+        rateTables.remove(event.getHotelId());
+    }
+
+    /**
+     * Room additions and removals can change a type's lowest base price
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomInventoryChanged(RoomInventoryChangedEvent event) {
+        rateTables.remove(event.getHotelId());
+    }
+
+    /**
+     * A finished table that starts on another day; a failed compile counts as stale
+     */
+    private boolean isStale(CompletableFuture<RateTable> future, LocalDate today) {
+        if (!future.isDone()) {
+            return false;
+        }
+        return future.isCompletedExceptionally() || !future.join().getStartDate().equals(today);
+    }
+
+    private RateTable compile(Long hotelId, LocalDate startDate) {
+        Map<RoomType, BigDecimal> basePrices = new EnumMap<>(RoomType.class);
+        for (Room room : roomRepository.findByHotelIdAndIsAvailableTrue(hotelId)) {
+            basePrices.merge(room.getRoomType(), room.getPricePerNight(), BigDecimal::min);
+        }
+        List<RateRule> rules = rateRuleRepository.findByHotelIdOrderByIdAsc(hotelId);
+        return RateTable.compile(startDate, horizonDays, basePrices, rules);
+    }
+
+    private void validateRule(RateRuleDTO rule) {
+        if (rule.getStartDate() != null && rule.getEndDate() != null
+                && rule.getEndDate().isBefore(rule.getStartDate())) {
+            throw new BookingException("End date must not be before start date");
+        }
+
+        BigDecimal amount = rule.getAmount();
+        BigDecimal hundred = BigDecimal.valueOf(100);
+        if (rule.getRuleType() == RateRuleType.NIGHTLY_RATE && amount.signum() <= 0) {
+            throw new BookingException("Nightly rate must be positive");
+        }
+        if (rule.getRuleType() == RateRuleType.SEASONAL_ADJUSTMENT && amount.compareTo(hundred.negate()) <= 0) {
+            throw new BookingException("Seasonal adjustment must be greater than -100%");
+        }
+        if (rule.getRuleType() == RateRuleType.LENGTH_OF_STAY_DISCOUNT
+                && (amount.signum() <= 0 || amount.compareTo(hundred) > 0)) {
+            throw new BookingException("Length-of-stay discount must be between 0 and 100%");
+        }
+    }
+
+    private RateRuleDTO convertToDTO(RateRule rule) {
+        RateRuleDTO dto = new RateRuleDTO();
+        dto.setId(rule.getId());
+        dto.setRoomType(rule.getRoomType());
+        dto.setRuleType(rule.getRuleType());
+        dto.setStartDate(rule.getStartDate());
+        dto.setEndDate(rule.getEndDate());
+        dto.setAmount(rule.getAmount());
+        dto.setMinNights(rule.getMinNights());
+        return dto;
+    }
+}
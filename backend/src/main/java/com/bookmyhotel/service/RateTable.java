@@ -0,0 +1,214 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bookmyhotel.entity.RateRule;
+import com.bookmyhotel.entity.RateRuleType;
+import com.bookmyhotel.entity.RoomType;
+
+/**
+ * Immutable nightly rate table for one hotel, compiled from its rate rules.
+ * Each room type holds one slot per night from the start date, so quoting a
+ * stay is a sum over a contiguous slice with no rule evaluation.
+ * Nights outside the compiled window are evaluated against the rules directly.
+ */
+public final class RateTable {
+
+    private static final long FACTOR_ONE = 1_000_000L;
+    private static final long NO_FIXED_RATE = -1L;
+
+    private final LocalDate startDate;
+    private final int days;
+    private final Map<RoomType, TypeRates> rates = new EnumMap<>(RoomType.class);
+
+    private RateTable(LocalDate startDate, int days) {
+        this.startDate = startDate;
+        this.days = days;
+    }
+
+    /**
+     * Compile the rules into per-night slots for [startDate, startDate + days).
+     * Base prices are the default nightly price of each type; types without an
+     * entry can still be quoted with an explicit base price.
+     */
+    public static RateTable compile(LocalDate startDate, int days,
+                                    Map<RoomType, BigDecimal> basePrices, List<RateRule> rules) {
+        RateTable table = new RateTable(startDate, days);
+        // Later rules win over earlier ones of the same specificity
+        List<RateRule> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.comparing(RateRule::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        for (RoomType type : RoomType.values()) {
+            List<RateRule> typeRules = ordered.stream()
+                .filter(rule -> rule.getRoomType() == null || rule.getRoomType() == type)
+                .toList();
+            BigDecimal basePrice = basePrices.get(type);
+            table.rates.put(type, TypeRates.compile(startDate, days,
+                basePrice != null ? toCents(basePrice) : NO_FIXED_RATE, typeRules));
+        }
+        return table;
+    }
+
+    /**
+     * Quote a stay at the room type's default base price, or null if the type has none
+     */
+    public BigDecimal quote(RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        TypeRates typeRates = rates.get(roomType);
+        if (typeRates.baseCents == NO_FIXED_RATE) {
+            return null;
+        }
+        return fromCents(quoteCents(typeRates, typeRates.baseCents, checkInDate, checkOutDate));
+    }
+
+    /**
+     * Quote a stay for a room of the given type with its own base price
+     */
+    public BigDecimal quote(RoomType roomType, BigDecimal basePrice, LocalDate checkInDate, LocalDate checkOutDate) {
+        return fromCents(quoteCents(rates.get(roomType), toCents(basePrice), checkInDate, checkOutDate));
+    }
+
+    /**
+     * Default nightly base price of a room type, or null if the hotel has none
+     */
+    public BigDecimal getBasePrice(RoomType roomType) {
+        long cents = rates.get(roomType).baseCents;
+        return cents == NO_FIXED_RATE ? null : fromCents(cents);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    private long quoteCents(TypeRates typeRates, long baseCents, LocalDate checkInDate, LocalDate checkOutDate) {
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        int from = (int) ChronoUnit.DAYS.between(startDate, checkInDate);
+
+        long total = 0;
+        for (int i = 0; i < nights; i++) {
+            int slot = from + i;
+            if (slot >= 0 && slot < days) {
+                total += nightCents(typeRates.fixedCents[slot], typeRates.factors[slot], baseCents);
+            } else {
+                LocalDate night = checkInDate.plusDays(i);
+                total += nightCents(typeRates.fixedCentsOn(night), typeRates.factorOn(night), baseCents);
+            }
+        }
+
+        long discount = typeRates.stayDiscountPercent(checkInDate, nights);
+        if (discount > 0) {
+            total -= roundDiv(total * discount, 10_000L);
+        }
+        return total;
+    }
+
+    private static long nightCents(long fixedCents, long factor, long baseCents) {
+        if (fixedCents != NO_FIXED_RATE) {
+            return fixedCents;
+        }
+        return roundDiv(baseCents * factor, FACTOR_ONE);
+    }
+
+    private static long roundDiv(long value, long divisor) {
+        return Math.floorDiv(value + divisor / 2, divisor);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static boolean covers(RateRule rule, LocalDate date) {
+        return (rule.getStartDate() == null || !date.isBefore(rule.getStartDate()))
+            && (rule.getEndDate() == null || !date.isAfter(rule.getEndDate()));
+    }
+
+    /**
+     * Compiled slots and the source rules for one room type
+     */
+    private static final class TypeRates {
+        private final long baseCents;
+        private final long[] fixedCents;
+        private final long[] factors;
+        private final List<RateRule> nightlyRates;
+        private final List<RateRule> adjustments;
+        private final List<RateRule> stayDiscounts;
+
+        private TypeRates(long baseCents, int days, List<RateRule> rules) {
+            this.baseCents = baseCents;
+            this.fixedCents = new long[days];
+            this.factors = new long[days];
+            // Type-specific rules after hotel-wide ones so they take precedence
+            this.nightlyRates = rules.stream()
+                .filter(rule -> rule.getRuleType() == RateRuleType.NIGHTLY_RATE)
+                .sorted(Comparator.comparing(rule -> rule.getRoomType() != null))
+                .toList();
+            this.adjustments = rules.stream()
+                .filter(rule -> rule.getRuleType() == RateRuleType.SEASONAL_ADJUSTMENT)
+                .toList();
+            this.stayDiscounts = rules.stream()
+                .filter(rule -> rule.getRuleType() == RateRuleType.LENGTH_OF_STAY_DISCOUNT)
+                .toList();
+        }
+
+        static TypeRates compile(LocalDate startDate, int days, long baseCents, List<RateRule> rules) {
+            TypeRates typeRates = new TypeRates(baseCents, days, rules);
+            for (int i = 0; i < days; i++) {
+                LocalDate night = startDate.plusDays(i);
+                typeRates.fixedCents[i] = typeRates.fixedCentsOn(night);
+                typeRates.factors[i] = typeRates.factorOn(night);
+            }
+            return typeRates;
+        }
+
+        /**
+         * Fixed nightly rate covering the night, which replaces the base price and adjustments
+         */
+        long fixedCentsOn(LocalDate night) {
+            long cents = NO_FIXED_RATE;
+            for (RateRule rule : nightlyRates) {
+                if (covers(rule, night)) {
+                    cents = toCents(rule.getAmount());
+                }
+            }
+            return cents;
+        }
+
+        /**
+         * Product of all seasonal adjustments covering the night, scaled by FACTOR_ONE
+         */
+        long factorOn(LocalDate night) {
+            BigDecimal factor = BigDecimal.ONE;
+            for (RateRule rule : adjustments) {
+                if (covers(rule, night)) {
+                    factor = factor.multiply(BigDecimal.ONE.add(rule.getAmount().movePointLeft(2)));
+                }
+            }
+            return factor.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        /**
+         * Largest length-of-stay discount the stay qualifies for, in hundredths of a percent
+         */
+        long stayDiscountPercent(LocalDate checkInDate, int nights) {
+            long best = 0;
+            for (RateRule rule : stayDiscounts) {
+                int minNights = rule.getMinNights() != null ? rule.getMinNights() : 1;
+                if (nights >= minNights && covers(rule, checkInDate)) {
+                    best = Math.max(best, toCents(rule.getAmount()));
+                }
+            }
+            return best;
+        }
+    }
+}
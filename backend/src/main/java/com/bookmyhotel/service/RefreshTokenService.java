@@ -0,0 +1,131 @@
+package com.bookmyhotel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.entity.RefreshToken;
+import com.bookmyhotel.event.UserAccountChangedEvent;
+import com.bookmyhotel.repository.RefreshTokenRepository;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ * Only a SHA-256 hash of each token is stored. Every refresh revokes the presented
+ * token and issues a new one in the same family; presenting a token that was already
+ * rotated means it leaked, so the whole family and the user's access tokens are revoked.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    
+    private final SecureRandom random = new SecureRandom();
+    
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Value("${app.jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+    
+    /**
+     * Issue the first refresh token of a new login
+     */
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+    
+    /**
+     * Issue a refresh token continuing an existing family
+     */
+    public String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L);
+        refreshTokenRepository.save(new RefreshToken(userId, hash(token), familyId, expiresAt));
+        return token;
+    }
+    
+    /**
+     * Revoke a presented refresh token so it cannot be used again and return it.
+     * The caller continues the family with issue(userId, familyId); a caller's transaction
+     * must also not roll back on BadCredentialsException, or a reuse revocation is lost.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public RefreshToken consume(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashForUpdate(hash(token))
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshToken.isRevoked()) {
+            logger.warn("Refresh token reuse for user {}; revoking token family {}",
+                refreshToken.getUserId(), refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), now);
+            tokenRevocationService.revokeUser(refreshToken.getUserId());
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (refreshToken.isExpired(now)) {
+            throw new BadCredentialsException("Refresh token has expired");
+        }
+        
+        refreshToken.setRevokedAt(now);
+        return refreshTokenRepository.save(refreshToken);
+    }
+    
+    /**
+     * End the login a refresh token belongs to; unknown tokens are ignored
+     */
+    public void revokeFamily(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+            .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), LocalDateTime.now()));
+    }
+    
+    /**
+     * A changed password, role or status ends every login of the account
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        refreshTokenRepository.revokeAllForUser(event.getUserId(), LocalDateTime.now());
+    }
+    
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 15 3 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+    
+    private static String hash(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.bookmyhotel.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.entity.RefundStatus;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.event.ReservationStatusChangedEvent;
+import com.bookmyhotel.repository.RefundJobRepository;
+import com.bookmyhotel.repository.ReservationRepository;
+
+/**
+ * Persistent refund queue.
+ * Jobs are written in the same transaction as the cancellation and processed
+ * later by RefundWorker, so cancelling never waits on the payment provider.
+ */
+@Service
+@Transactional
+public class RefundService {
+    
+    @Autowired
+    private RefundJobRepository refundJobRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Value("${app.refunds.max-attempts:8}")
+    private int maxAttempts;
+    
+    @Value("${app.refunds.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+    
+    @Value("${app.refunds.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+    
+    @Value("${app.refunds.lease-seconds:300}")
+    private long leaseSeconds;
+    
+    @Value("${app.refunds.compensation-delay-seconds:600}")
+    private long compensationDelaySeconds;
+    
+    /**
+     * Queue a refund when a paid reservation is cancelled
+     */
+    @EventListener
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        if (event.getNewStatus() != ReservationStatus.CANCELLED) {
+            return;
+        }
+        
+        // CANCELLED is terminal, so this runs at most once per reservation
+        Reservation reservation = reservationRepository.findById(event.getReservationId()).orElse(null);
+        if (reservation == null || reservation.getPaymentIntentId() == null) {
+            return;
+        }
+        
+        enqueue(reservation.getId(), reservation.getPaymentIntentId(), reservation.getTotalAmount());
+    }
+    
+    /**
+     * Queue a full or partial refund of a payment
+     */
+    public RefundJob enqueue(Long reservationId, String paymentIntentId, BigDecimal amount) {
+        LocalDateTime now = LocalDateTime.now();
+        RefundJob job = new RefundJob();
+        job.setReservationId(reservationId);
+        job.setPaymentIntentId(paymentIntentId);
+        job.setAmount(amount);
+        job.setNextAttemptAt(now);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        return refundJobRepository.save(job);
+    }
+    
+    /**
+     * Commit, on its own, a refund of a charge just taken for a change that is yet to commit.
+     * The job is held back so the change can delete it with cancelCompensation when it commits;
+     * if the change fails, releaseNow makes it due at once, and a crash leaves it to run when the hold ends.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public RefundJob enqueueCompensation(Long reservationId, String paymentIntentId, BigDecimal amount) {
+        RefundJob job = enqueue(reservationId, paymentIntentId, amount);
+        job.setNextAttemptAt(job.getCreatedAt().plusSeconds(compensationDelaySeconds));
+        return job;
+    }
+    
+    /**
+     * Drop a compensating refund as part of the transaction that committed its change
+     */
+    public void cancelCompensation(Long jobId) {
+        refundJobRepository.deleteById(jobId);
+    }
+    
+    /**
+     * Make a held-back compensating refund due now, after its change failed
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseNow(Long jobId) {
+        refundJobRepository.findById(jobId)
+            .filter(job -> job.getStatus() == RefundStatus.PENDING)
+            .ifPresent(job -> {
+                job.setNextAttemptAt(LocalDateTime.now());
+                job.setUpdatedAt(LocalDateTime.now());
+            });
+    }
+    
+    /**
+     * Lease up to limit due jobs to the caller.
+     * A job whose worker dies is picked up again once its lease runs out.
+     */
+    public List<RefundJob> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RefundJob> jobs = refundJobRepository.claimDue(now, limit);
+        for (RefundJob job : jobs) {
+            job.setStatus(RefundStatus.IN_PROGRESS);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+            job.setUpdatedAt(now);
+        }
+        return jobs;
+    }
+    
+    /**
+     * Record a completed refund
+     */
+    public void markSucceeded(Long jobId, String refundId) {
+        refundJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(RefundStatus.SUCCEEDED);
+            job.setRefundId(refundId);
+            job.setLastError(null);
+            job.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+    
+    /**
+     * Record a failed attempt and either schedule a retry with exponential
+     * backoff or give up. Returns the job's new status.
+     */
+    public RefundStatus markFailed(Long jobId, String error, boolean retryable) {
+        RefundJob job = refundJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return RefundStatus.FAILED;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        job.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        job.setUpdatedAt(now);
+        if (retryable && job.getAttempts() < maxAttempts) {
+            job.setStatus(RefundStatus.PENDING);
+            job.setNextAttemptAt(now.plus(backoff(job.getAttempts())));
+        } else {
+            job.setStatus(RefundStatus.FAILED);
+        }
+        return job.getStatus();
+    }
+    
+    /**
+     * Whether a refund of the reservation is still queued or being retried
+     */
+    @Transactional(readOnly = true)
+    public boolean hasOpenRefunds(Long reservationId) {
+        return refundJobRepository.existsByReservationIdAndStatusIn(reservationId,
+            EnumSet.of(RefundStatus.PENDING, RefundStatus.IN_PROGRESS));
+    }
+    
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return refundJobRepository.countByStatus(RefundStatus.PENDING);
+    }
+    
+    /**
+     * Exponential backoff with up to 20% jitter so retries from one outage spread out
+     */
+    Duration backoff(int attempts) {
+        long seconds = initialBackoffSeconds << Math.min(attempts - 1, 20);
+        seconds = Math.min(seconds, maxBackoffSeconds);
+        long jitter = (long) (seconds * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofSeconds(seconds + jitter);
+    }
+}
@@ -0,0 +1,129 @@
+package com.bookmyhotel.service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.entity.RefundStatus;
+import com.bookmyhotel.exception.PaymentException;
+import com.bookmyhotel.payment.PaymentGateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Processes queued refunds on a bounded worker pool.
+ * Only as many jobs are claimed as the pool has room for, so a slow payment
+ * provider backs work up in the database rather than in memory.
+ */
+@Component
+public class RefundWorker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RefundWorker.class);
+    
+    private final RefundService refundService;
+    private final PaymentGateway paymentGateway;
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    
+    private final Counter succeeded;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer gatewayLatency;
+    
+    public RefundWorker(RefundService refundService,
+                        PaymentGateway paymentGateway,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.refunds.workers:4}") int workers) {
+        this.refundService = refundService;
+        this.paymentGateway = paymentGateway;
+        this.capacity = workers * 2;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers), runnable -> {
+                Thread thread = new Thread(runnable, "refund-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        
+        this.succeeded = Counter.builder("bookmyhotel.refunds.processed").tag("outcome", "succeeded").register(meterRegistry);
+        this.retried = Counter.builder("bookmyhotel.refunds.processed").tag("outcome", "retried").register(meterRegistry);
+        this.failed = Counter.builder("bookmyhotel.refunds.processed").tag("outcome", "failed").register(meterRegistry);
+        this.gatewayLatency = Timer.builder("bookmyhotel.refunds.gateway.latency").register(meterRegistry);
+        Gauge.builder("bookmyhotel.refunds.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("bookmyhotel.refunds.queue.depth", queueDepth, AtomicLong::get).register(meterRegistry);
+    }
+    
+    /**
+     * Claim as many due jobs as the pool can take and hand them to the workers
+     */
+    @Scheduled(fixedDelayString = "${app.refunds.poll-interval-ms:5000}")
+    public void poll() {
+        queueDepth.set(refundService.countPending());
+        
+        int free = capacity - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+        
+        List<RefundJob> jobs = refundService.claimBatch(free);
+        for (RefundJob job : jobs) {
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> process(job));
+            } catch (RejectedExecutionException e) {
+                // Lease expiry hands the job back to the queue
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * Issue one refund and record the outcome
+     */
+    void process(RefundJob job) {
+        try {
+            String refundId = gatewayLatency.recordCallable(() -> paymentGateway.refund(
+                job.getPaymentIntentId(), job.getAmount(), "refund-" + job.getId()));
+            refundService.markSucceeded(job.getId(), refundId);
+            succeeded.increment();
+        } catch (PaymentException e) {
+            recordFailure(job, e.getMessage(), e.isRetryable());
+        } catch (Exception e) {
+            recordFailure(job, e.getMessage(), true);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    private void recordFailure(RefundJob job, String error, boolean retryable) {
+        RefundStatus status = refundService.markFailed(job.getId(), error, retryable);
+        if (status == RefundStatus.FAILED) {
+            failed.increment();
+            logger.error("Refund for reservation {} failed permanently: {}", job.getReservationId(), error);
+        } else {
+            retried.increment();
+            logger.warn("Refund for reservation {} will be retried: {}", job.getReservationId(), error);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
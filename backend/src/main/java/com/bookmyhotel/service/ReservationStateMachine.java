@@ -0,0 +1,198 @@
+package com.bookmyhotel.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.ReservationTimer;
+import com.bookmyhotel.entity.ReservationTimerType;
+import com.bookmyhotel.event.ReservationRescheduledEvent;
+import com.bookmyhotel.event.ReservationStatusChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.ReservationTimerRepository;
+
+/**
+ * Reservation lifecycle state machine.
+ * Every status change goes through here so that the transition is validated,
+ * inventory follows the status, the durable timers for the new status are
+ * armed and a ReservationStatusChangedEvent is published.
+ */
+@Service
+@Transactional
+public class ReservationStateMachine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationStateMachine.class);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimerRepository timerRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private RoomAssignmentService roomAssignmentService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.reservation.pending-expiry-minutes:30}")
+    private long pendingExpiryMinutes;
+
+    @Value("${app.reservation.no-show-grace-hours:6}")
+    private long noShowGraceHours;
+
+    @Value("${app.reservation.auto-check-out-time:14:00}")
+    private LocalTime autoCheckOutTime;
+
+    /**
+     * Arm timers for a newly saved reservation and announce it
+     */
+    public void onCreated(Reservation reservation) {
+        armTimers(reservation);
+        publish(reservation, null);
+    }
+
+    /**
+     * Hold a PENDING reservation for payment; it is cancelled if still unpaid when the hold runs out.
+     * Only such holds get a pending-expiry timer, other PENDING bookings wait for payment indefinitely.
+     */
+    public void holdForPayment(Reservation reservation) {
+        if (reservation.getStatus() != ReservationStatus.PENDING) {
+            throw new BookingException("Only pending reservations can be held for payment");
+        }
+        reservation.setHoldExpiresAt(LocalDateTime.now().plusMinutes(pendingExpiryMinutes));
+        reservation = reservationRepository.save(reservation);
+        timerRepository.deleteByReservationId(reservation.getId());
+        armTimers(reservation);
+    }
+
+    /**
+     * Re-arm timers after a reservation's dates changed and announce the change
+     */
+    public void onRescheduled(Reservation reservation, LocalDate previousCheckInDate, LocalDate previousCheckOutDate) {
+        timerRepository.deleteByReservationId(reservation.getId());
+        armTimers(reservation);
+        eventPublisher.publishEvent(new ReservationRescheduledEvent(
+            reservation.getId(),
+            reservation.getGuest().getId(),
+            reservation.getHotel().getId(),
+            reservation.getCheckInDate(),
+            reservation.getCheckOutDate(),
+            previousCheckInDate,
+            previousCheckOutDate
+        ));
+    }
+    
+    /**
+     * Move a reservation to a new status
+     */
+    public Reservation transition(Reservation reservation, ReservationStatus target) {
+        ReservationStatus current = reservation.getStatus();
+        if (!current.canTransitionTo(target)) {
+            throw new BookingException("Reservation cannot change from " + current.name() + " to " + target.name());
+        }
+
+        if (target == ReservationStatus.CHECKED_IN && !reservation.isRoomAssigned()) {
+            roomAssignmentService.assignRoom(reservation);
+        }
+
+        reservation.setStatus(target);
+        reservation = reservationRepository.save(reservation);
+
+        if (current.holdsInventory() && !target.holdsInventory()) {
+            inventoryService.release(reservation);
+        }
+
+        timerRepository.deleteByReservationId(reservation.getId());
+        armTimers(reservation);
+        publish(reservation, current);
+        return reservation;
+    }
+
+    /**
+     * Fire one batch of due timers in a single transaction.
+     * Timers whose reservation has already left the armed status are dropped.
+     * Returns the number of timers claimed.
+     */
+    public int fireDueTimers(LocalDateTime now, int batchSize) {
+        List<ReservationTimer> due = timerRepository.claimDue(now, batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Reservation> reservations = reservationRepository.findAllById(
+                due.stream().map(ReservationTimer::getReservationId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        for (ReservationTimer timer : due) {
+            timerRepository.delete(timer);
+
+            Reservation reservation = reservations.get(timer.getReservationId());
+            ReservationTimerType type = timer.getTimerType();
+            if (reservation == null || reservation.getStatus() != type.getArmedStatus()) {
+                continue;
+            }
+
+            try {
+                transition(reservation, type.getTargetStatus());
+            } catch (BookingException e) {
+                logger.warn("Timer {} for reservation {} did not fire: {}",
+                    type, reservation.getConfirmationNumber(), e.getMessage());
+            }
+        }
+        return due.size();
+    }
+
+    /**
+     * Arm the timer belonging to the reservation's current status, if any
+     */
+    private void armTimers(Reservation reservation) {
+        for (ReservationTimerType type : ReservationTimerType.values()) {
+            if (type == ReservationTimerType.PENDING_EXPIRY && reservation.getHoldExpiresAt() == null) {
+                continue;
+            }
+            if (type.getArmedStatus() == reservation.getStatus()) {
+                timerRepository.save(new ReservationTimer(reservation.getId(), type, dueAt(reservation, type)));
+            }
+        }
+    }
+
+    private LocalDateTime dueAt(Reservation reservation, ReservationTimerType type) {
+        return switch (type) {
+            case PENDING_EXPIRY -> reservation.getHoldExpiresAt();
+            case NO_SHOW -> reservation.getCheckInDate().plusDays(1).atStartOfDay().plusHours(noShowGraceHours);
+            case AUTO_CHECK_OUT -> reservation.getCheckOutDate().atTime(autoCheckOutTime);
+        };
+    }
+
+    private void publish(Reservation reservation, ReservationStatus previousStatus) {
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(
+            reservation.getId(),
+            reservation.getGuest().getId(),
+            reservation.getHotel().getId(),
+            reservation.getCheckInDate(),
+            reservation.getCheckOutDate(),
+            previousStatus,
+            reservation.getStatus()
+        ));
+    }
+}
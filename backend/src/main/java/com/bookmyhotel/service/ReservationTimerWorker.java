@@ -0,0 +1,40 @@
+package com.bookmyhotel.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains due reservation timers in fixed-size batches, one transaction per batch
+ */
+@Component
+public class ReservationTimerWorker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReservationTimerWorker.class);
+    
+    @Autowired
+    private ReservationStateMachine stateMachine;
+    
+    @Value("${app.reservation.timers.batch-size:200}")
+    private int batchSize;
+    
+    @Scheduled(fixedDelayString = "${app.reservation.timers.poll-interval-ms:30000}")
+    public void fireDueTimers() {
+        LocalDateTime now = LocalDateTime.now();
+        int fired = 0;
+        int claimed;
+        do {
+            claimed = stateMachine.fireDueTimers(now, batchSize);
+            fired += claimed;
+        } while (claimed == batchSize);
+        
+        if (fired > 0) {
+            logger.info("Processed {} due reservation timers", fired);
+        }
+    }
+}
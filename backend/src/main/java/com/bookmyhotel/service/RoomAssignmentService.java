@@ -0,0 +1,169 @@
+package com.bookmyhotel.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.event.ReservationChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.ResourceNotFoundException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.RoomRepository;
+
+/**
+ * Assigns concrete rooms to room-type reservations, at check-in or ahead of
+ * arrival by the nightly assignment run
+ */
+@Service
+@Transactional
+public class RoomAssignmentService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RoomAssignmentService.class);
+    
+    // How far around a stay to look for neighbouring reservations when scoring fit
+    private static final int FIT_WINDOW_DAYS = 14;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.inventory.assignment-horizon-days:2}")
+    private int assignmentHorizonDays;
+    
+    /**
+     * Assign the best fitting free room of the reservation's type.
+     * Rooms whose neighbouring bookings leave the smallest gaps around the stay
+     * are preferred, which keeps long free runs available for long stays.
+     */
+    public Room assignRoom(Reservation reservation) {
+        if (reservation.isRoomAssigned()) {
+            return reservation.getRoom();
+        }
+        
+        List<Room> candidates = roomRepository.findAssignableRooms(
+            reservation.getHotel().getId(),
+            reservation.getRoomType(),
+            reservation.getCheckInDate(),
+            reservation.getCheckOutDate()
+        );
+        
+        for (Room candidate : rankByFit(candidates, reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+            if (tryAssign(reservation, candidate.getId())) {
+                return reservation.getRoom();
+            }
+        }
+        
+        throw new BookingException("No " + reservation.getRoomType().name()
+            + " room is free to assign to reservation " + reservation.getConfirmationNumber());
+    }
+    
+    /**
+     * Assign a specific room chosen by staff
+     */
+    public Room assignRoom(Reservation reservation, Long roomId) {
+        Room room = roomRepository.findById(roomId)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
+        
+        if (!room.getHotel().getId().equals(reservation.getHotel().getId())) {
+            throw new BookingException("Room does not belong to the reservation's hotel");
+        }
+        if (room.getRoomType() != reservation.getRoomType()) {
+            throw new BookingException("Room " + room.getRoomNumber() + " is not a " + reservation.getRoomType().name() + " room");
+        }
+        if (!tryAssign(reservation, roomId)) {
+            throw new BookingException("Room " + room.getRoomNumber() + " is not available for the reservation dates");
+        }
+        return reservation.getRoom();
+    }
+    
+    /**
+     * Nightly run assigning rooms to arrivals within the configured horizon.
+     * Longer stays are placed first within each arrival day.
+     */
+    @Scheduled(cron = "${app.inventory.assignment-cron:0 30 2 * * *}")
+    public void assignUpcomingArrivals() {
+        LocalDate today = LocalDate.now();
+        List<Reservation> pending = reservationRepository.findUnassignedCheckingInBetween(
+            today, today.plusDays(assignmentHorizonDays));
+        
+        int assigned = 0;
+        for (Reservation reservation : pending) {
+            try {
+                assignRoom(reservation);
+                assigned++;
+            } catch (BookingException e) {
+                logger.warn("Could not assign room to reservation {}: {}", reservation.getConfirmationNumber(), e.getMessage());
+            }
+        }
+        logger.info("Assigned rooms to {} of {} upcoming room-type reservations", assigned, pending.size());
+    }
+    
+    /**
+     * Lock the room and re-check it before assigning, so concurrent assignments
+     * cannot hand out the same room twice
+     */
+    private boolean tryAssign(Reservation reservation, Long roomId) {
+        List<Room> locked = roomRepository.findAllByIdForUpdate(List.of(roomId));
+        if (locked.isEmpty()
+                || !roomRepository.isRoomAvailable(roomId, reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+            return false;
+        }
+        reservation.setRoom(locked.get(0));
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+            reservation.getId(), reservation.getGuest().getId(), reservation.getHotel().getId(),
+            reservation.getCheckInDate(), reservation.getCheckOutDate()));
+        return true;
+    }
+    
+    /**
+     * Order candidates by the total free nights left on either side of the stay
+     */
+    private List<Room> rankByFit(List<Room> candidates, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (candidates.size() <= 1) {
+            return candidates;
+        }
+        
+        LocalDate windowStart = checkInDate.minusDays(FIT_WINDOW_DAYS);
+        LocalDate windowEnd = checkOutDate.plusDays(FIT_WINDOW_DAYS);
+        Map<Long, Long> gapBefore = new HashMap<>();
+        Map<Long, Long> gapAfter = new HashMap<>();
+        
+        List<Long> roomIds = candidates.stream().map(Room::getId).collect(Collectors.toList());
+        for (Reservation neighbour : reservationRepository.findActiveByRoomIdsInRange(roomIds, windowStart, windowEnd)) {
+            Long roomId = neighbour.getRoom().getId();
+            if (!neighbour.getCheckOutDate().isAfter(checkInDate)) {
+                gapBefore.merge(roomId, ChronoUnit.DAYS.between(neighbour.getCheckOutDate(), checkInDate), Math::min);
+            } else if (!neighbour.getCheckInDate().isBefore(checkOutDate)) {
+                gapAfter.merge(roomId, ChronoUnit.DAYS.between(checkOutDate, neighbour.getCheckInDate()), Math::min);
+            }
+        }
+        
+        return candidates.stream()
+            .sorted(Comparator.comparingLong((Room room) ->
+                    gapBefore.getOrDefault(room.getId(), (long) FIT_WINDOW_DAYS)
+                    + gapAfter.getOrDefault(room.getId(), (long) FIT_WINDOW_DAYS))
+                .thenComparing(Room::getId))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,211 @@
+package com.bookmyhotel.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.dto.RoomImportResult;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.RoomJdbcRepository;
+import com.bookmyhotel.repository.RoomRepository;
+
+/**
+ * Bulk room import from CSV.
+ * The file is read line by line, each row is checked against the hotel's room
+ * numbers held in memory, and valid rows are written in JDBC batches.
+ * Invalid lines are reported and skipped; the valid ones are imported in one transaction.
+ * Columns: roomNumber, roomType, pricePerNight, capacity, description (optional).
+ */
+@Service
+@Transactional
+public class RoomImportService {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomJdbcRepository roomJdbcRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.rooms.import-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Import rooms into a hotel from CSV
+     */
+    public RoomImportResult importRooms(Hotel hotel, String tenantId, Reader csv) {
+        RoomImportResult result = new RoomImportResult();
+        
+        // Room numbers are unique per hotel under a case-insensitive collation
+        Set<String> roomNumbers = new HashSet<>();
+        for (String roomNumber : roomRepository.findRoomNumbersByHotelId(hotel.getId())) {
+            roomNumbers.add(roomNumber.toLowerCase(Locale.ROOT));
+        }
+        
+        Map<RoomType, Integer> addedByType = new EnumMap<>(RoomType.class);
+        List<Room> batch = new ArrayList<>(batchSize);
+        int imported = 0;
+        
+        try (BufferedReader reader = new BufferedReader(csv)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                
+                Room room;
+                try {
+                    room = parseRoom(parseCsvLine(line));
+                } catch (IllegalArgumentException e) {
+                    result.addError(lineNumber, e.getMessage());
+                    continue;
+                }
+                
+                if (!roomNumbers.add(room.getRoomNumber().toLowerCase(Locale.ROOT))) {
+                    result.addError(lineNumber, "Room number " + room.getRoomNumber() + " already exists");
+                    continue;
+                }
+                
+                room.setHotel(hotel);
+                room.setTenantId(tenantId);
+                room.setIsAvailable(true);
+                batch.add(room);
+                addedByType.merge(room.getRoomType(), 1, Integer::sum);
+                
+                if (batch.size() == batchSize) {
+                    roomJdbcRepository.batchInsert(batch);
+                    imported += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new BookingException("Could not read room import file: " + e.getMessage(), e);
+        }
+        
+        if (!batch.isEmpty()) {
+            roomJdbcRepository.batchInsert(batch);
+            imported += batch.size();
+        }
+        
+        addedByType.forEach((roomType, count) ->
+            eventPublisher.publishEvent(new RoomInventoryChangedEvent(hotel.getId(), roomType, count)));
+        
+        result.setImported(imported);
+        return result;
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("roomnumber")
+            || line.trim().toLowerCase(Locale.ROOT).startsWith("\"roomnumber");
+    }
+
+    /**
+     * Build an unsaved room from CSV fields, throwing IllegalArgumentException with a user-facing message
+     */
+    private Room parseRoom(List<String> fields) {
+        if (fields.size() < 4 || fields.size() > 5) {
+            throw new IllegalArgumentException("Expected 4 or 5 columns but found " + fields.size());
+        }
+        
+        String roomNumber = fields.get(0);
+        if (roomNumber.isEmpty() || roomNumber.length() > 20) {
+            throw new IllegalArgumentException("Room number is required and must not exceed 20 characters");
+        }
+        
+        RoomType roomType;
+        try {
+            roomType = RoomType.valueOf(fields.get(1).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown room type: " + fields.get(1));
+        }
+        
+        BigDecimal pricePerNight;
+        try {
+            pricePerNight = new BigDecimal(fields.get(2));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price: " + fields.get(2));
+        }
+        if (pricePerNight.signum() <= 0 || pricePerNight.scale() > 2 || pricePerNight.precision() - pricePerNight.scale() > 8) {
+            throw new IllegalArgumentException("Price must be positive with at most 2 decimals");
+        }
+        
+        int capacity;
+        try {
+            capacity = Integer.parseInt(fields.get(3));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid capacity: " + fields.get(3));
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        
+        String description = fields.size() == 5 && !fields.get(4).isEmpty() ? fields.get(4) : null;
+        if (description != null && description.length() > 500) {
+            throw new IllegalArgumentException("Description must not exceed 500 characters");
+        }
+        
+        Room room = new Room();
+        room.setRoomNumber(roomNumber);
+        room.setRoomType(roomType);
+        room.setPricePerNight(pricePerNight);
+        room.setCapacity(capacity);
+        room.setDescription(description);
+        return room;
+    }
+
+    /**
+     * Split one CSV line into trimmed fields, honouring double quotes and "" escapes
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -0,0 +1,155 @@
+package com.bookmyhotel.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.entity.RevokedToken;
+import com.bookmyhotel.event.UserAccountChangedEvent;
+import com.bookmyhotel.repository.RevokedTokenRepository;
+import com.bookmyhotel.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Revoked access tokens, checked on every request without touching the database.
+ * Revocations live in revoked_tokens until the tokens they cover expire; this node
+ * keeps a Bloom filter of their keys, so almost every token is cleared in memory and
+ * only filter hits are confirmed against the table. The filter is rebuilt from the
+ * table on a schedule, which is how revocations made on other nodes arrive.
+ */
+@Component
+public class TokenRevocationService {
+    
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long accessTokenTtlMillis;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Cache<String, Optional<LocalDateTime>> confirmed;
+    private final Counter filterHits;
+    
+    private volatile BloomFilter filter;
+    
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.jwt.expiration}") long accessTokenTtlMillis,
+                                  @Value("${app.jwt.revocation.expected-entries:100000}") long expectedRevocations,
+                                  @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${app.jwt.revocation.refresh-interval-ms:30000}") long refreshIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.accessTokenTtlMillis = accessTokenTtlMillis;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedRevocations, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder()
+            .maximumSize(expectedRevocations)
+            .expireAfterWrite(Duration.ofMillis(refreshIntervalMillis))
+            .build();
+        this.filterHits = Counter.builder("bookmyhotel.auth.revocation.filter_hits").register(meterRegistry);
+    }
+    
+    /**
+     * Whether the token itself, or every token its user held when it was issued, has been revoked.
+     * Token times have second precision, so user revocations are stored to the second too;
+     * a token issued in the same second as the revocation, such as one issued in its place, stays valid.
+     */
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && revokedAt(tokenKey(claims.getId())) != null) {
+            return true;
+        }
+        Object userId = claims.get("userId");
+        if (userId instanceof Number id) {
+            LocalDateTime revokedAt = revokedAt(userKey(id.longValue()));
+            Date issuedAt = claims.getIssuedAt();
+            return revokedAt != null && (issuedAt == null || toLocal(issuedAt).isBefore(revokedAt));
+        }
+        return false;
+    }
+    
+    /**
+     * Revoke one access token until it expires
+     */
+    @Transactional
+    public void revokeToken(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        record(tokenKey(claims.getId()), toLocal(claims.getExpiration()));
+    }
+    
+    /**
+     * Revoke every access token issued to the user so far
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        record(userKey(userId), LocalDateTime.now().plusNanos(accessTokenTtlMillis * 1_000_000L));
+    }
+    
+    /**
+     * Tokens issued before an account change carry stale roles, hotel or active state;
+     * clients get new ones through the refresh endpoint, which reloads the user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        revokeUser(event.getUserId());
+    }
+    
+    /**
+     * Drop revocations whose tokens have expired and rebuild the filter from the rest
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-interval-ms:30000}")
+    @Transactional
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<String> keys = revokedTokenRepository.findLiveKeys(now);
+        
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedRevocations, 2L * keys.size()), falsePositiveRate);
+        keys.forEach(rebuilt::put);
+        filter = rebuilt;
+        confirmed.invalidateAll();
+    }
+    
+    private void record(String key, LocalDateTime expiresAt) {
+        revokedTokenRepository.save(new RevokedToken(key, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), expiresAt));
+        filter.put(key);
+        confirmed.invalidate(key);
+    }
+    
+    private LocalDateTime revokedAt(String key) {
+        if (!filter.mightContain(key)) {
+            return null;
+        }
+        filterHits.increment();
+        return confirmed.get(key, k -> Optional.ofNullable(revokedTokenRepository.findLatestRevokedAt(k))).orElse(null);
+    }
+    
+    private static String tokenKey(String jti) {
+        return "jti:" + jti;
+    }
+    
+    private static String userKey(long userId) {
+        return "user:" + userId;
+    }
+    
+    private static LocalDateTime toLocal(Date date) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+    }
+}
@@ -5,9 +5,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +15,7 @@ import com.bookmyhotel.dto.admin.UpdateUserRequest;
 import com.bookmyhotel.dto.admin.UserManagementResponse;
 import com.bookmyhotel.entity.User;
 import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.event.UserAccountChangedEvent;
 import com.bookmyhotel.repository.UserRepository;
 
 /**
@@ -28,7 +29,10 @@ public class UserManagementService {
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Get all users with pagination
@@ -80,6 +84,8 @@ public class UserManagementService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
+        String previousEmail = user.getEmail();
+        
         // Check if email is already taken by another user
         if (!user.getEmail().equals(request.getEmail())) {
             java.util.Optional<User> existingUser = userRepository.findByEmail(request.getEmail());
@@ -96,6 +102,7 @@ public class UserManagementService {
         user.setRoles(request.getRoles());
         
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), previousEmail));
         
         return convertToResponse(user);
     }
@@ -109,6 +116,7 @@ public class UserManagementService {
         
         user.setIsActive(!user.getIsActive());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
         
         return convertToResponse(user);
     }
@@ -125,6 +133,7 @@ public class UserManagementService {
         user.setRoles(roles);
         
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
         
         return convertToResponse(user);
     }
@@ -141,6 +150,7 @@ public class UserManagementService {
         user.setRoles(roles);
         
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
         
         return convertToResponse(user);
     }
@@ -154,6 +164,7 @@ public class UserManagementService {
         
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
     }
     
     /**
@@ -163,8 +174,9 @@ public class UserManagementService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getEmail()));
     }
     
     /**
@@ -0,0 +1,56 @@
+package com.bookmyhotel.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.config.JwtPrincipal;
+import com.bookmyhotel.event.UserAccountChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of authenticated principals keyed by access token id (jti), for JWT
+ * request authentication. A token's principal is built from its claims once and
+ * shared by every request carrying it; entries live no longer than an access token
+ * and are dropped once a change to the account commits.
+ * Hits and misses are exported as cache.gets{cache="userPrincipals"}.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, JwtPrincipal> principals;
+
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${app.security.principal-cache-size:10000}") long maximumSize,
+                              @Value("${app.jwt.expiration}") long tokenLifetimeMillis) {
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(tokenLifetimeMillis))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "userPrincipals");
+    }
+
+    /**
+     * Principal for a verified token, or null if its claims lack the user id or roles
+     */
+    public JwtPrincipal get(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId == null) {
+            return JwtPrincipal.fromClaims(claims);
+        }
+        return principals.get(tokenId, id -> JwtPrincipal.fromClaims(claims));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        principals.asMap().values().removeIf(principal -> principal.getId().equals(event.getUserId()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.bookmyhotel.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookmyhotel.event.ReservationStatusChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Offers inventory freed by cancellations, no-shows and expired holds to the waitlist.
+ * Matching runs on a small bounded pool once the freeing transaction commits, so a
+ * cancellation or timer never waits for it; each candidate is tried in its own
+ * transaction so one that does not fit never blocks the next, and is emailed once
+ * its offer has committed.
+ */
+@Component
+public class WaitlistMatcher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistMatcher.class);
+    
+    private final WaitlistService waitlistService;
+    private final ThreadPoolExecutor executor;
+    
+    public WaitlistMatcher(WaitlistService waitlistService,
+                           @Value("${app.waitlist.matcher-threads:2}") int threads,
+                           @Value("${app.waitlist.matcher-queue-capacity:1000}") int queueCapacity) {
+        this.waitlistService = waitlistService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "waitlist-matcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null || !event.getPreviousStatus().holdsInventory()
+                || event.getNewStatus().holdsInventory()) {
+            return;
+        }
+        
+        try {
+            executor.execute(() -> match(event.getReservationId()));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Waitlist matching skipped for reservation {}: matcher queue is full", event.getReservationId());
+        }
+    }
+    
+    /**
+     * Offer the nights a reservation freed to waiting entries, oldest first
+     */
+    void match(Long reservationId) {
+        try {
+            for (Long entryId : waitlistService.inventoryFreed(reservationId)) {
+                try {
+                    if (waitlistService.tryOffer(entryId)) {
+                        waitlistService.notifyOffer(entryId);
+                    }
+                } catch (BookingException e) {
+                    logger.debug("Waitlist entry {} not offered: {}", entryId, e.getMessage());
+                } catch (RuntimeException e) {
+                    logger.warn("Waitlist entry {} could not be matched", entryId, e);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Waitlist matching failed for reservation {}", reservationId, e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,294 @@
+package com.bookmyhotel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bookmyhotel.dto.BookingRequest;
+import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.dto.WaitlistRequest;
+import com.bookmyhotel.dto.WaitlistResponse;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.WaitlistEntry;
+import com.bookmyhotel.entity.WaitlistStatus;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.exception.ResourceNotFoundException;
+import com.bookmyhotel.notification.EmailSender;
+import com.bookmyhotel.repository.HotelRepository;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.WaitlistEntryRepository;
+
+/**
+ * Waitlist for sold-out dates.
+ * An offer is a PENDING room-type reservation made on the guest's behalf; it holds
+ * the inventory until the guest pays or the pending-expiry timer cancels it.
+ * Guests reach their entry with the secret token returned when they joined.
+ */
+@Service
+@Transactional
+public class WaitlistService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+    
+    private final SecureRandom random = new SecureRandom();
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private HotelRepository hotelRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private ReservationStateMachine reservationStateMachine;
+    
+    @Autowired
+    private EmailSender emailSender;
+    
+    @Value("${app.waitlist.max-nights:30}")
+    private int maxNights;
+    
+    @Value("${app.waitlist.match-batch-size:20}")
+    private int matchBatchSize;
+    
+    /**
+     * Join the waitlist
+     */
+    public WaitlistResponse join(WaitlistRequest request) {
+        if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+            throw new BookingException("Check-in date must be before check-out date");
+        }
+        if (request.getCheckInDate().isBefore(LocalDate.now())) {
+            throw new BookingException("Check-in date cannot be in the past");
+        }
+        if (ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate()) > maxNights) {
+            throw new BookingException("Waitlist stays are limited to " + maxNights + " nights");
+        }
+        if (!hotelRepository.existsById(request.getHotelId())) {
+            throw new ResourceNotFoundException("Hotel not found with id: " + request.getHotelId());
+        }
+        
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setHotelId(request.getHotelId());
+        entry.setRoomType(request.getRoomType());
+        entry.setCheckInDate(request.getCheckInDate());
+        entry.setCheckOutDate(request.getCheckOutDate());
+        entry.setGuests(request.getGuests());
+        entry.setGuestName(request.getGuestName());
+        entry.setGuestEmail(request.getGuestEmail());
+        entry.setGuestPhone(request.getGuestPhone());
+        entry.setCreatedAt(LocalDateTime.now());
+        
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String accessToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        entry.setAccessTokenHash(hash(accessToken));
+        
+        WaitlistResponse response = convertToResponse(waitlistEntryRepository.save(entry));
+        response.setAccessToken(accessToken);
+        return response;
+    }
+    
+    /**
+     * Get a waitlist entry
+     */
+    @Transactional(readOnly = true)
+    public WaitlistResponse getEntry(Long entryId, String accessToken) {
+        return convertToResponse(findEntry(entryId, accessToken));
+    }
+    
+    /**
+     * Pay for the held offer and turn it into a confirmed booking
+     */
+    public WaitlistResponse accept(Long entryId, String accessToken, String paymentMethodId) {
+        WaitlistEntry entry = findEntry(entryId, accessToken);
+        if (entry.getStatus() != WaitlistStatus.OFFERED) {
+            throw new BookingException("Waitlist entry has no open offer");
+        }
+        
+        bookingService.confirmPendingBooking(entry.getReservationId(), paymentMethodId);
+        entry.setStatus(WaitlistStatus.BOOKED);
+        return convertToResponse(waitlistEntryRepository.save(entry));
+    }
+    
+    /**
+     * Leave the waitlist, releasing any held offer
+     */
+    public WaitlistResponse cancel(Long entryId, String accessToken) {
+        WaitlistEntry entry = findEntry(entryId, accessToken);
+        WaitlistStatus previous = entry.getStatus();
+        if (previous != WaitlistStatus.WAITING && previous != WaitlistStatus.OFFERED) {
+            throw new BookingException("Waitlist entry is already " + previous.name());
+        }
+        
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        entry = waitlistEntryRepository.save(entry);
+        
+        if (previous == WaitlistStatus.OFFERED) {
+            reservationRepository.findById(entry.getReservationId())
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING)
+                .ifPresent(reservation -> reservationStateMachine.transition(reservation, ReservationStatus.CANCELLED));
+        }
+        return convertToResponse(entry);
+    }
+    
+    /**
+     * Handle inventory freed by a reservation leaving an inventory-holding status.
+     * Expires the waitlist offer the reservation was holding, if any, and returns
+     * the ids of waiting entries whose stay overlaps the freed nights, oldest first.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> inventoryFreed(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null || reservation.getRoomType() == null) {
+            return List.of();
+        }
+        
+        waitlistEntryRepository.findByReservationId(reservationId)
+            .filter(entry -> entry.getStatus() == WaitlistStatus.OFFERED)
+            .ifPresent(entry -> {
+                entry.setStatus(WaitlistStatus.EXPIRED);
+                waitlistEntryRepository.save(entry);
+            });
+        
+        LocalDate fromDate = reservation.getCheckInDate();
+        LocalDate today = LocalDate.now();
+        if (fromDate.isBefore(today)) {
+            fromDate = today;
+        }
+        if (!fromDate.isBefore(reservation.getCheckOutDate())) {
+            return List.of();
+        }
+        
+        return waitlistEntryRepository.findWaitingOverlapping(
+                reservation.getHotel().getId(),
+                reservation.getRoomType(),
+                fromDate.minusDays(maxNights),
+                fromDate,
+                reservation.getCheckOutDate(),
+                PageRequest.of(0, matchBatchSize))
+            .stream()
+            .map(WaitlistEntry::getId)
+            .toList();
+    }
+    
+    /**
+     * Try to hold inventory for one waiting entry in its own transaction.
+     * Throws BookingException, rolling back, when the stay still does not fit.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryOffer(Long entryId) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId).orElse(null);
+        if (entry == null || entry.getStatus() != WaitlistStatus.WAITING
+                || entry.getCheckInDate().isBefore(LocalDate.now())) {
+            return false;
+        }
+        
+        BookingRequest request = new BookingRequest();
+        request.setHotelId(entry.getHotelId());
+        request.setRoomType(entry.getRoomType());
+        request.setCheckInDate(entry.getCheckInDate());
+        request.setCheckOutDate(entry.getCheckOutDate());
+        request.setGuests(entry.getGuests());
+        request.setGuestName(entry.getGuestName());
+        request.setGuestEmail(entry.getGuestEmail());
+        request.setGuestPhone(entry.getGuestPhone());
+        BookingResponse hold = bookingService.createBooking(request);
+        reservationRepository.findById(hold.getReservationId())
+            .ifPresent(reservationStateMachine::holdForPayment);
+        
+        entry.setStatus(WaitlistStatus.OFFERED);
+        entry.setReservationId(hold.getReservationId());
+        entry.setOfferedAt(LocalDateTime.now());
+        waitlistEntryRepository.save(entry);
+        
+        logger.info("Waitlist entry {} offered reservation {} to {}",
+            entry.getId(), hold.getConfirmationNumber(), entry.getGuestEmail());
+        return true;
+    }
+    
+    /**
+     * Tell the guest about a committed offer and how long the rooms are held
+     */
+    @Transactional(readOnly = true)
+    public void notifyOffer(Long entryId) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId).orElse(null);
+        if (entry == null || entry.getStatus() != WaitlistStatus.OFFERED || entry.getReservationId() == null) {
+            return;
+        }
+        Reservation hold = reservationRepository.findById(entry.getReservationId()).orElse(null);
+        if (hold == null) {
+            return;
+        }
+        
+        String hotelName = hold.getHotel().getName();
+        String deadline = hold.getHoldExpiresAt() != null
+            ? " before " + hold.getHoldExpiresAt().truncatedTo(ChronoUnit.MINUTES)
+            : "";
+        emailSender.send(entry.getGuestEmail(), "A room is available at " + hotelName,
+            "A " + entry.getRoomType() + " room at " + hotelName + " from " + entry.getCheckInDate()
+                + " to " + entry.getCheckOutDate() + " is being held for you (booking "
+                + hold.getConfirmationNumber() + "). Accept your waitlist entry " + entry.getId()
+                + " and pay" + deadline + " to keep it.");
+    }
+    
+    /**
+     * Entry with the given id whose token matches; a wrong token looks the same as a missing entry
+     */
+    private WaitlistEntry findEntry(Long entryId, String accessToken) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId).orElse(null);
+        if (entry == null || entry.getAccessTokenHash() == null || accessToken == null
+                || !MessageDigest.isEqual(entry.getAccessTokenHash().getBytes(StandardCharsets.US_ASCII),
+                                          hash(accessToken).getBytes(StandardCharsets.US_ASCII))) {
+            throw new ResourceNotFoundException("Waitlist entry not found with id: " + entryId);
+        }
+        return entry;
+    }
+    
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private WaitlistResponse convertToResponse(WaitlistEntry entry) {
+        WaitlistResponse response = new WaitlistResponse();
+        response.setId(entry.getId());
+        response.setHotelId(entry.getHotelId());
+        response.setRoomType(entry.getRoomType().name());
+        response.setCheckInDate(entry.getCheckInDate());
+        response.setCheckOutDate(entry.getCheckOutDate());
+        response.setStatus(entry.getStatus().name());
+        response.setOfferedAt(entry.getOfferedAt());
+        response.setCreatedAt(entry.getCreatedAt());
+        if (entry.getReservationId() != null && entry.getStatus() != WaitlistStatus.CANCELLED
+                && entry.getStatus() != WaitlistStatus.EXPIRED) {
+            response.setOffer(bookingService.getBooking(entry.getReservationId()));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookmyhotel.tenant;
+
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Request-scoped identity of the authenticated hotel staff member, taken from the JWT claims.
+ * Populated once per request by JwtAuthenticationFilter so services can scope work to the
+ * caller's hotel without looking the user up again. Left unresolved when the token has no
+ * hotel; tokens that predate a change to the account are revoked and never get this far.
+ */
+@Component
+@Scope(WebApplicationContext.SCOPE_REQUEST)
+public class HotelAdminContext {
+    
+    private Long userId;
+    private String email;
+    private Long hotelId;
+    private String tenantId;
+    
+    public void resolve(Long userId, String email, Long hotelId, String tenantId) {
+        this.userId = userId;
+        this.email = email;
+        this.hotelId = hotelId;
+        this.tenantId = tenantId;
+    }
+    
+    /**
+     * Whether the context holds the hotel of the given user
+     */
+    public boolean isResolvedFor(String email) {
+        return hotelId != null && this.email != null && this.email.equals(email);
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public Long getHotelId() {
+        return hotelId;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -22,7 +22,13 @@ public class TenantResolver {
             return tenantFromHeader.trim();
         }
         
-        // Then try subdomain
+        return resolveTenantFromHost(request);
+    }
+    
+    /**
+     * Resolve tenant from the subdomain alone, ignoring the client-supplied header
+     */
+    public String resolveTenantFromHost(HttpServletRequest request) {
         String serverName = request.getServerName();
         if (serverName != null && serverName.contains(".")) {
             String[] parts = serverName.split("\\.");
@@ -0,0 +1,18 @@
+-- V11: Store allocated confirmation numbers on reservations
+
+-- Per-tenant block sequence; each node reserves a block of numbers at a time
+CREATE TABLE confirmation_sequences (
+    tenant_id VARCHAR(50) PRIMARY KEY,
+    next_block BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL
+) ENGINE=InnoDB;
+
+ALTER TABLE reservations ADD COLUMN confirmation_number VARCHAR(20) NULL;
+
+-- Existing reservations keep the number they were already shown
+UPDATE reservations SET confirmation_number = CONCAT('BK', LPAD(id, 8, '0'));
+
+ALTER TABLE reservations MODIFY confirmation_number VARCHAR(20) NOT NULL;
+
+-- Leading confirmation_number column serves lookups by number alone
+CREATE UNIQUE INDEX idx_reservation_confirmation ON reservations (confirmation_number, tenant_id);
@@ -0,0 +1,7 @@
+-- V12: Guests created during booking no longer get a password hash
+
+ALTER TABLE users MODIFY password VARCHAR(255) NULL;
+
+-- Guests still holding the shared temporary password are made unclaimed by
+-- AuthService as they sign in or ask for a claim code, since only it can check
+-- the BCrypt hashes without a startup scan; guests who set a password keep it.
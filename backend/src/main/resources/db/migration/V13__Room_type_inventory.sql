@@ -0,0 +1,34 @@
+-- V13: Book room types against per-night inventory counters, assign rooms later
+
+-- Reservations carry their hotel and room type so the room can be assigned later
+ALTER TABLE reservations ADD COLUMN hotel_id BIGINT NULL;
+ALTER TABLE reservations ADD COLUMN room_type VARCHAR(20) NULL;
+
+UPDATE reservations r
+JOIN rooms rm ON rm.id = r.room_id
+SET r.hotel_id = rm.hotel_id,
+    r.room_type = rm.room_type;
+
+ALTER TABLE reservations MODIFY hotel_id BIGINT NOT NULL;
+ALTER TABLE reservations MODIFY room_type VARCHAR(20) NOT NULL;
+ALTER TABLE reservations MODIFY room_id BIGINT NULL;
+
+ALTER TABLE reservations ADD CONSTRAINT FK_reservation_hotel
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_reservation_hotel_checkin ON reservations (hotel_id, check_in_date);
+CREATE INDEX idx_reservation_hotel_type ON reservations (hotel_id, room_type, check_in_date);
+
+-- One counter row per (hotel, room type, night); rows are seeded lazily from reservations
+CREATE TABLE room_type_inventory (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL,
+    room_type VARCHAR(20) NOT NULL,
+    stay_date DATE NOT NULL,
+    capacity INT NOT NULL,
+    booked INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL,
+    
+    UNIQUE INDEX idx_inventory_hotel_type_date (hotel_id, room_type, stay_date),
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
@@ -0,0 +1,18 @@
+-- V14: Per-date rates, seasonal adjustments and length-of-stay discounts per room type
+
+CREATE TABLE rate_rules (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    room_type VARCHAR(20) NULL,
+    rule_type VARCHAR(30) NOT NULL,
+    start_date DATE NULL,
+    end_date DATE NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    min_nights INT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    INDEX idx_rate_rule_hotel (hotel_id, room_type),
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
@@ -0,0 +1,3 @@
+-- V15: Serve keyset-paginated guest booking history from an index
+
+CREATE INDEX idx_reservation_guest_created ON reservations (guest_id, created_at, id);
@@ -0,0 +1,22 @@
+-- V16: Durable reservation lifecycle timers (pending expiry, no-show, auto check-out)
+
+CREATE TABLE reservation_timers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reservation_id BIGINT NOT NULL,
+    timer_type VARCHAR(30) NOT NULL,
+    due_at DATETIME NOT NULL,
+    
+    INDEX idx_timer_due (due_at),
+    UNIQUE INDEX idx_timer_reservation_type (reservation_id, timer_type),
+    FOREIGN KEY (reservation_id) REFERENCES reservations(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Arm timers for reservations that are already in flight.
+-- Existing PENDING bookings are not payment holds, so they get no pending-expiry timer.
+INSERT INTO reservation_timers (reservation_id, timer_type, due_at)
+SELECT id, 'NO_SHOW', DATE_ADD(check_in_date, INTERVAL 30 HOUR)
+FROM reservations WHERE status = 'CONFIRMED';
+
+INSERT INTO reservation_timers (reservation_id, timer_type, due_at)
+SELECT id, 'AUTO_CHECK_OUT', DATE_ADD(check_out_date, INTERVAL 14 HOUR)
+FROM reservations WHERE status = 'CHECKED_IN';
@@ -0,0 +1,19 @@
+-- V17: Persistent queue of refunds for cancelled, paid reservations
+
+CREATE TABLE refund_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reservation_id BIGINT NOT NULL,
+    payment_intent_id VARCHAR(100) NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    refund_id VARCHAR(100) NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NULL,
+    
+    INDEX idx_refund_due (status, next_attempt_at),
+    UNIQUE INDEX idx_refund_reservation (reservation_id),
+    FOREIGN KEY (reservation_id) REFERENCES reservations(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
@@ -0,0 +1,22 @@
+-- V18: Waitlist for sold-out hotel, room type and dates
+
+CREATE TABLE waitlist_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL,
+    room_type VARCHAR(20) NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    guests INT NOT NULL,
+    guest_name VARCHAR(100) NOT NULL,
+    guest_email VARCHAR(100) NOT NULL,
+    guest_phone VARCHAR(20) NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    reservation_id BIGINT NULL,
+    offered_at DATETIME NULL,
+    created_at DATETIME NOT NULL,
+    
+    -- Stays overlapping freed nights are found by range scan on check-in within one hotel and type
+    INDEX idx_waitlist_match (hotel_id, room_type, status, check_in_date, check_out_date),
+    INDEX idx_waitlist_reservation (reservation_id),
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
@@ -0,0 +1,4 @@
+-- V19: A reservation can have several refunds (date changes, then cancellation)
+
+ALTER TABLE refund_jobs ADD INDEX idx_refund_reservation_id (reservation_id);
+ALTER TABLE refund_jobs DROP INDEX idx_refund_reservation;
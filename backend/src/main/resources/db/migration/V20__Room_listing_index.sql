@@ -0,0 +1,3 @@
+-- V20: Admin room listing filters by hotel, room type and availability
+
+CREATE INDEX idx_room_hotel_type_available ON rooms (hotel_id, room_type, is_available);
@@ -0,0 +1,7 @@
+-- V21: Prefix search of hotel bookings by guest name and email.
+-- Keyset paging on (hotel_id, check_in_date, id) uses idx_reservation_hotel_checkin,
+-- whose entries already end in the primary key.
+
+CREATE INDEX idx_user_first_name ON users (first_name);
+CREATE INDEX idx_user_last_name ON users (last_name);
+CREATE INDEX idx_user_email_lookup ON users (email);
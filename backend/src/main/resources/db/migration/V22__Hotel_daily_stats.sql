@@ -0,0 +1,29 @@
+-- V22: Per-hotel, per-day, per-status booking rollups for the admin dashboard
+
+CREATE TABLE hotel_daily_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    check_ins INT NOT NULL DEFAULT 0,
+    check_outs INT NOT NULL DEFAULT 0,
+    revenue DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL,
+    
+    UNIQUE INDEX idx_daily_stats_hotel_date_status (hotel_id, stat_date, status),
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Rebuilding a day looks reservations up by check-out date as well as check-in date
+CREATE INDEX idx_reservation_hotel_checkout ON reservations (hotel_id, check_out_date);
+
+INSERT INTO hotel_daily_stats (hotel_id, stat_date, status, check_ins, check_outs, revenue, updated_at)
+SELECT hotel_id, stat_date, status, SUM(check_ins), SUM(check_outs), SUM(revenue), CURRENT_TIMESTAMP
+FROM (
+    SELECT hotel_id, check_in_date AS stat_date, status, COUNT(*) AS check_ins, 0 AS check_outs, SUM(total_amount) AS revenue
+    FROM reservations GROUP BY hotel_id, check_in_date, status
+    UNION ALL
+    SELECT hotel_id, check_out_date, status, 0, COUNT(*), 0
+    FROM reservations GROUP BY hotel_id, check_out_date, status
+) days
+GROUP BY hotel_id, stat_date, status;
@@ -0,0 +1,30 @@
+-- V23: Rotating refresh tokens and revoked access tokens.
+-- Refresh tokens are stored by SHA-256 hash; each login starts a family that
+-- rotation extends, so reuse of a rotated token can revoke the whole family.
+-- Revocations name either one access token ('jti:<id>') or every token a user
+-- was issued up to revoked_at ('user:<id>'), and are kept until those tokens expire.
+
+CREATE TABLE refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    revoked_at DATETIME NULL,
+    
+    UNIQUE INDEX idx_refresh_token_hash (token_hash),
+    INDEX idx_refresh_token_family (family_id),
+    INDEX idx_refresh_token_expires (expires_at),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE TABLE revoked_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_key VARCHAR(64) NOT NULL,
+    revoked_at DATETIME(3) NOT NULL,
+    expires_at DATETIME NOT NULL,
+    
+    INDEX idx_revoked_token_key (token_key),
+    INDEX idx_revoked_token_expires (expires_at)
+) ENGINE=InnoDB;
@@ -0,0 +1,4 @@
+-- V24: Waitlist entries are reached with a secret token handed out at join, stored as a SHA-256 hash.
+-- Entries created before this have no token and can no longer be read, accepted or cancelled by id.
+
+ALTER TABLE waitlist_entries ADD COLUMN access_token_hash VARCHAR(64) NULL;
@@ -0,0 +1,18 @@
+-- V25: Only PENDING holds waiting for payment (waitlist offers) expire.
+-- Other PENDING bookings keep waiting for payment, so their pending-expiry timers are dropped.
+
+ALTER TABLE reservations ADD COLUMN hold_expires_at DATETIME NULL;
+
+UPDATE reservations r
+JOIN waitlist_entries w ON w.reservation_id = r.id AND w.status = 'OFFERED'
+JOIN reservation_timers t ON t.reservation_id = r.id AND t.timer_type = 'PENDING_EXPIRY'
+SET r.hold_expires_at = GREATEST(t.due_at, NOW());
+
+UPDATE reservation_timers t
+JOIN reservations r ON r.id = t.reservation_id
+SET t.due_at = r.hold_expires_at
+WHERE t.timer_type = 'PENDING_EXPIRY' AND r.hold_expires_at IS NOT NULL;
+
+DELETE t FROM reservation_timers t
+JOIN reservations r ON r.id = t.reservation_id
+WHERE t.timer_type = 'PENDING_EXPIRY' AND r.hold_expires_at IS NULL;
@@ -0,0 +1,4 @@
+-- V26: One-time tokens emailed to unclaimed guest accounts; claiming no longer accepts a confirmation number
+
+ALTER TABLE users ADD COLUMN claim_token_hash VARCHAR(64) NULL;
+ALTER TABLE users ADD COLUMN claim_token_expires_at DATETIME NULL;
@@ -0,0 +1,7 @@
+-- V28: Allocate confirmation numbers from one sequence shared by all tenants
+
+-- Start past every block any tenant has reserved, so no code already issued comes round again
+INSERT INTO confirmation_sequences (tenant_id, next_block, updated_at)
+SELECT '*', COALESCE(MAX(next_block), 0), CURRENT_TIMESTAMP FROM confirmation_sequences;
+
+DELETE FROM confirmation_sequences WHERE tenant_id <> '*';
@@ -0,0 +1,11 @@
+-- V29: Refund jobs outlive their reservation; deleting a booking must never drop a refund still owed
+
+-- The foreign key was created unnamed, so look its generated name up before dropping it
+SET @refund_fk = (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+                  WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'refund_jobs'
+                    AND REFERENCED_TABLE_NAME = 'reservations' LIMIT 1);
+SET @drop_refund_fk = IF(@refund_fk IS NULL, 'DO 0',
+                         CONCAT('ALTER TABLE refund_jobs DROP FOREIGN KEY `', @refund_fk, '`'));
+PREPARE drop_refund_fk FROM @drop_refund_fk;
+EXECUTE drop_refund_fk;
+DEALLOCATE PREPARE drop_refund_fk;
@@ -0,0 +1,3 @@
+-- V30: A group booking's payment is refunded by a job written before its reservations exist
+
+ALTER TABLE refund_jobs MODIFY reservation_id BIGINT NULL;
@@ -0,0 +1,97 @@
+package com.bookmyhotel.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.User;
+import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * legacyTripleParse reproduces the old filter path: extractUsername, then validateToken's
+ * extractUsername and isTokenExpired, each rebuilding the key and parser and checking the signature.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.bookmyhotel.benchmark.JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    
+    private static final String SECRET = "bookmyhotelverylongsecretkeythatisatleast256bitslongforsecurity123";
+    
+    private JwtUtil cachedVerifier;
+    private JwtUtil uncachedVerifier;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        cachedVerifier = new JwtUtil(SECRET, 3_600_000L, 10_000);
+        uncachedVerifier = new JwtUtil(SECRET, 3_600_000L, 0);
+        
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("frontdesk@example.com");
+        user.setFirstName("Front");
+        user.setLastName("Desk");
+        user.setTenantId("default");
+        user.setRoles(Set.of(UserRole.FRONTDESK));
+        user.setHotel(hotel);
+        token = cachedVerifier.generateToken(user);
+    }
+    
+    @Benchmark
+    public void legacyTripleParse(Blackhole blackhole) {
+        blackhole.consume(legacyClaims(token).getSubject());
+        blackhole.consume(legacyClaims(token).getSubject());
+        blackhole.consume(legacyClaims(token).getExpiration());
+    }
+    
+    @Benchmark
+    public Claims singleParse() {
+        return uncachedVerifier.verify(token);
+    }
+    
+    @Benchmark
+    public Claims singleParseCached() {
+        return cachedVerifier.verify(token);
+    }
+    
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bookmyhotel.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertFalse(bucket.tryConsume(0));
+    }
+
+    @Test
+    void tryConsume_ShouldRefillAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(2, 0.5, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(SECOND));
+        assertEquals(1, bucket.secondsUntilNextToken(SECOND));
+        assertTrue(bucket.tryConsume(2 * SECOND));
+        assertFalse(bucket.tryConsume(2 * SECOND));
+    }
+
+    @Test
+    void tryConsume_AfterLongIdle_ShouldNotExceedCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0);
+        bucket.tryConsume(0);
+
+        long later = 3600 * SECOND;
+        assertTrue(bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later));
+        assertFalse(bucket.tryConsume(later));
+    }
+
+    @Test
+    void tryConsume_AtHighRates_ShouldRefillExactly() {
+        TokenBucket bucket = new TokenBucket(10, 3000, 0);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryConsume(0);
+        }
+
+        int admitted = 0;
+        for (long now = 1000; now <= SECOND; now += 1000) {
+            if (bucket.tryConsume(now)) {
+                admitted++;
+            }
+        }
+
+        assertEquals(3000, admitted);
+    }
+
+    @Test
+    void constructor_ShouldRejectRatesBeyondMaximum() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TokenBucket(10, TokenBucket.MAX_REFILL_PER_SECOND * 2, 0));
+    }
+
+    @Test
+    void rateLimiter_ShouldKeepSeparateBucketsAndEvictIdleOnes() {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(1, 1, clock::get);
+
+        assertEquals(0, limiter.acquire("10.0.0.1"));
+        assertEquals(1, limiter.acquire("10.0.0.1"));
+        assertEquals(0, limiter.acquire("10.0.0.2"));
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        limiter.evictIdle();
+
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void rateLimiter_RetryAfter_ShouldNotConsumeTokens() {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(2, 0.5, clock::get);
+
+        assertEquals(0, limiter.retryAfter("guest@example.com"));
+        limiter.acquire("guest@example.com");
+        assertEquals(0, limiter.retryAfter("guest@example.com"));
+        assertEquals(0, limiter.retryAfter("guest@example.com"));
+        limiter.acquire("guest@example.com");
+
+        assertEquals(2, limiter.retryAfter("guest@example.com"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bookmyhotel.dto.auth.ClaimAccountRequest;
+import com.bookmyhotel.dto.auth.ClaimStartRequest;
+import com.bookmyhotel.dto.auth.LoginRequest;
+import com.bookmyhotel.entity.User;
+import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.exception.TooManyRequestsException;
+import com.bookmyhotel.notification.EmailSender;
+import com.bookmyhotel.ratelimit.ClaimThrottle;
+import com.bookmyhotel.ratelimit.LoginThrottle;
+import com.bookmyhotel.repository.UserRepository;
+import com.bookmyhotel.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailSender emailSender;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private ClaimThrottle claimThrottle;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authService, "claimTokenTtlMinutes", 30L);
+
+        guest = new User();
+        guest.setId(9L);
+        guest.setEmail("guest@example.com");
+        guest.setRoles(Set.of(UserRole.GUEST));
+        lenient().when(userRepository.findByEmail("guest@example.com")).thenReturn(Optional.of(guest));
+    }
+
+    @Test
+    void claimGuestAccount_WithEmailedToken_ShouldSetPasswordOnce() {
+        authService.startGuestAccountClaim(new ClaimStartRequest("guest@example.com"), "10.0.0.1");
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(emailSender).send(eq("guest@example.com"), anyString(), body.capture());
+        String token = body.getValue().substring(body.getValue().lastIndexOf(' ') + 1);
+
+        when(passwordHashingService.encode("new-password")).thenReturn("{hashed}");
+        when(userRepository.save(guest)).thenReturn(guest);
+        authService.claimGuestAccount(new ClaimAccountRequest("guest@example.com", token, "new-password"), "10.0.0.1");
+
+        assertEquals("{hashed}", guest.getPassword());
+        assertNull(guest.getClaimTokenHash());
+        assertThrows(BadCredentialsException.class, () -> authService.claimGuestAccount(
+            new ClaimAccountRequest("guest@example.com", token, "other-password"), "10.0.0.1"));
+    }
+
+    @Test
+    void claimGuestAccount_WithWrongToken_ShouldRecordFailure() {
+        authService.startGuestAccountClaim(new ClaimStartRequest("guest@example.com"), "10.0.0.1");
+        clearInvocations(loginThrottle);
+
+        assertThrows(BadCredentialsException.class, () -> authService.claimGuestAccount(
+            new ClaimAccountRequest("guest@example.com", "guessed", "new-password"), "10.0.0.1"));
+
+        verify(loginThrottle).recordFailure("guest@example.com", "10.0.0.1");
+        assertNull(guest.getPassword());
+    }
+
+    @Test
+    void startGuestAccountClaim_ShouldNotCountAgainstSignIn() {
+        authService.startGuestAccountClaim(new ClaimStartRequest("guest@example.com"), "10.0.0.1");
+        authService.startGuestAccountClaim(new ClaimStartRequest("guest@example.com"), "10.0.0.1");
+
+        verify(claimThrottle, times(2)).acquire("guest@example.com", "10.0.0.1");
+        verifyNoInteractions(loginThrottle);
+    }
+
+    @Test
+    void startGuestAccountClaim_WhenThrottled_ShouldSendNothing() {
+        when(claimThrottle.acquire("guest@example.com", "10.0.0.1")).thenReturn(60L);
+
+        assertThrows(TooManyRequestsException.class, () ->
+            authService.startGuestAccountClaim(new ClaimStartRequest("guest@example.com"), "10.0.0.1"));
+
+        verifyNoInteractions(emailSender);
+    }
+
+    @Test
+    void login_WithSharedGuestPassword_ShouldUnclaimAccount() {
+        guest.setTenantId("guest");
+        guest.setIsActive(true);
+        guest.setPassword("{shared}");
+        when(passwordHashingService.matches("guestpassword123", "{shared}")).thenReturn(true);
+
+        assertThrows(BadCredentialsException.class, () ->
+            authService.login(new LoginRequest("guest@example.com", "guestpassword123"), "10.0.0.1"));
+
+        assertNull(guest.getPassword());
+        verify(userRepository).save(guest);
+        verifyNoInteractions(refreshTokenService);
+    }
+}
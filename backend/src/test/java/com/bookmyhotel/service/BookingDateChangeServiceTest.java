@@ -0,0 +1,77 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookmyhotel.dto.BookingDateChangeRequest;
+import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.payment.PaymentGateway;
+
+@ExtendWith(MockitoExtension.class)
+class BookingDateChangeServiceTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private RefundService refundService;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @InjectMocks
+    private BookingDateChangeService bookingDateChangeService;
+
+    private BookingDateChangeRequest request;
+
+    private RefundJob compensation;
+
+    @BeforeEach
+    void setUp() {
+        request = new BookingDateChangeRequest();
+        request.setCheckInDate(LocalDate.now().plusDays(10));
+        request.setCheckOutDate(LocalDate.now().plusDays(13));
+        request.setPaymentMethodId("pm_card");
+        compensation = new RefundJob();
+        compensation.setId(7L);
+    }
+
+    @Test
+    void changeBookingDates_PricierStay_ShouldChargeFirstAndHandOverTheCompensation() throws Exception {
+        BigDecimal charge = new BigDecimal("450.00");
+        BookingResponse response = new BookingResponse();
+        when(bookingService.quoteDateChangeCharge(1L, request, 5L)).thenReturn(charge);
+        when(paymentGateway.charge(charge, "pm_card")).thenReturn("pi_new");
+        when(refundService.enqueueCompensation(1L, "pi_new", charge)).thenReturn(compensation);
+        when(bookingService.changeBookingDates(1L, request, compensation, 5L)).thenReturn(response);
+
+        assertSame(response, bookingDateChangeService.changeBookingDates(1L, request, 5L));
+        verify(refundService, never()).releaseNow(anyLong());
+    }
+
+    @Test
+    void changeBookingDates_ChangeFails_ShouldReleaseTheCompensatingRefund() throws Exception {
+        BigDecimal charge = new BigDecimal("450.00");
+        when(bookingService.quoteDateChangeCharge(1L, request, 5L)).thenReturn(charge);
+        when(paymentGateway.charge(charge, "pm_card")).thenReturn("pi_new");
+        when(refundService.enqueueCompensation(1L, "pi_new", charge)).thenReturn(compensation);
+        when(bookingService.changeBookingDates(1L, request, compensation, 5L))
+            .thenThrow(new BookingException("Room is not available for the selected dates"));
+
+        assertThrows(BookingException.class, () -> bookingDateChangeService.changeBookingDates(1L, request, 5L));
+        verify(refundService).releaseNow(7L);
+    }
+}
@@ -0,0 +1,209 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import com.bookmyhotel.dto.BookingDateChangeRequest;
+import com.bookmyhotel.dto.BookingResponse;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.entity.User;
+import com.bookmyhotel.entity.UserRole;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.RoomRepository;
+import com.bookmyhotel.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @Mock
+    private ReservationStateMachine reservationStateMachine;
+
+    @Mock
+    private RefundService refundService;
+
+    @InjectMocks
+    private BookingService bookingService;
+
+    private Hotel hotel;
+
+    private Room room;
+
+    private Reservation reservation;
+
+    private LocalDate checkIn;
+
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setId(1L);
+        hotel.setName("Harbour Hotel");
+        User guest = new User();
+        guest.setId(2L);
+        guest.setFirstName("Ada");
+        guest.setLastName("Lovelace");
+        room = new Room();
+        room.setId(20L);
+        room.setRoomNumber("101");
+        room.setPricePerNight(new BigDecimal("100.00"));
+        room.setRoomType(RoomType.DOUBLE);
+        room.setHotel(hotel);
+
+        checkIn = LocalDate.now().plusDays(10);
+        checkOut = checkIn.plusDays(3);
+        reservation = new Reservation();
+        reservation.setId(3L);
+        reservation.setRoom(room);
+        reservation.setGuest(guest);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setTotalAmount(new BigDecimal("300.00"));
+        reservation.setPaymentIntentId("pi_old");
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+
+        lenient().when(reservationRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(reservation));
+        lenient().when(reservationRepository.save(reservation)).thenReturn(reservation);
+    }
+
+    @Test
+    void changeBookingDates_LongerStay_ShouldCheckGainedNightsAndAdoptTheCharge() {
+        LocalDate newCheckOut = checkOut.plusDays(2);
+        when(roomRepository.isRoomAvailable(20L, checkOut, newCheckOut)).thenReturn(true);
+        when(pricingService.quote(room, checkIn, newCheckOut)).thenReturn(new BigDecimal("500.00"));
+
+        BookingResponse response = bookingService.changeBookingDates(3L, dates(checkIn, newCheckOut),
+            charge(9L, "pi_new", "500.00"), 2L);
+
+        verify(roomRepository).findAllByIdForUpdate(List.of(20L));
+        verify(roomRepository, times(1)).isRoomAvailable(anyLong(), any(), any());
+        verify(inventoryService).swap(1L, RoomType.DOUBLE, checkIn, checkOut, checkIn, newCheckOut);
+        verify(refundService).cancelCompensation(9L);
+        verify(refundService).enqueue(3L, "pi_old", new BigDecimal("300.00"));
+        verify(reservationStateMachine).onRescheduled(reservation, checkIn, checkOut);
+        assertEquals("pi_new", reservation.getPaymentIntentId());
+        assertEquals(newCheckOut, response.getCheckOutDate());
+        assertEquals(new BigDecimal("500.00"), response.getTotalAmount());
+    }
+
+    @Test
+    void changeBookingDates_ShorterStay_ShouldRefundTheDifference() {
+        LocalDate newCheckIn = checkIn.plusDays(1);
+        when(pricingService.quote(room, newCheckIn, checkOut)).thenReturn(new BigDecimal("200.00"));
+
+        bookingService.changeBookingDates(3L, dates(newCheckIn, checkOut), null, 2L);
+
+        verify(roomRepository, never()).isRoomAvailable(anyLong(), any(), any());
+        verify(inventoryService).swap(1L, RoomType.DOUBLE, checkIn, checkOut, newCheckIn, checkOut);
+        verify(refundService).enqueue(3L, "pi_old", new BigDecimal("100.00"));
+        assertEquals("pi_old", reservation.getPaymentIntentId());
+        assertEquals(new BigDecimal("200.00"), reservation.getTotalAmount());
+    }
+
+    @Test
+    void changeBookingDates_GainedNightTaken_ShouldThrowBeforeSwappingInventory() {
+        LocalDate newCheckIn = checkIn.minusDays(1);
+        when(roomRepository.isRoomAvailable(20L, newCheckIn, checkIn)).thenReturn(false);
+
+        assertThrows(BookingException.class,
+            () -> bookingService.changeBookingDates(3L, dates(newCheckIn, checkOut), null, 2L));
+
+        verify(inventoryService, never()).swap(any(), any(), any(), any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void changeBookingDates_PriceMovedSinceQuote_ShouldThrowWithoutAdoptingTheCharge() {
+        LocalDate newCheckOut = checkOut.plusDays(2);
+        when(roomRepository.isRoomAvailable(20L, checkOut, newCheckOut)).thenReturn(true);
+        when(pricingService.quote(room, checkIn, newCheckOut)).thenReturn(new BigDecimal("520.00"));
+
+        assertThrows(BookingException.class, () -> bookingService.changeBookingDates(3L,
+            dates(checkIn, newCheckOut), charge(9L, "pi_new", "500.00"), 2L));
+
+        verify(refundService, never()).cancelCompensation(anyLong());
+        verify(refundService, never()).enqueue(anyLong(), any(), any());
+        verify(reservationRepository, never()).save(any());
+        assertEquals("pi_old", reservation.getPaymentIntentId());
+    }
+
+    @Test
+    void changeBookingDates_ByHotelStaff_ShouldBeAllowed() {
+        LocalDate newCheckIn = checkIn.plusDays(1);
+        when(userRepository.findById(50L)).thenReturn(Optional.of(user(hotel, UserRole.FRONTDESK)));
+        when(pricingService.quote(room, newCheckIn, checkOut)).thenReturn(new BigDecimal("200.00"));
+
+        bookingService.changeBookingDates(3L, dates(newCheckIn, checkOut), null, 50L);
+
+        verify(reservationRepository).save(reservation);
+    }
+
+    @Test
+    void changeBookingDates_ByAnotherGuest_ShouldBeDenied() {
+        when(userRepository.findById(99L)).thenReturn(Optional.of(user(null, UserRole.GUEST)));
+
+        assertThrows(AccessDeniedException.class,
+            () -> bookingService.changeBookingDates(3L, dates(checkIn.plusDays(1), checkOut), null, 99L));
+
+        verify(inventoryService, never()).swap(any(), any(), any(), any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    private BookingDateChangeRequest dates(LocalDate checkInDate, LocalDate checkOutDate) {
+        BookingDateChangeRequest request = new BookingDateChangeRequest();
+        request.setCheckInDate(checkInDate);
+        request.setCheckOutDate(checkOutDate);
+        return request;
+    }
+
+    private RefundJob charge(Long id, String paymentIntentId, String amount) {
+        RefundJob job = new RefundJob();
+        job.setId(id);
+        job.setPaymentIntentId(paymentIntentId);
+        job.setAmount(new BigDecimal(amount));
+        return job;
+    }
+
+    private User user(Hotel userHotel, UserRole role) {
+        User user = new User();
+        user.setHotel(userHotel);
+        user.setRoles(Set.of(role));
+        return user;
+    }
+}
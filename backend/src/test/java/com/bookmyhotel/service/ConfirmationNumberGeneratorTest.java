@@ -0,0 +1,74 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmationNumberGeneratorTest {
+
+    @Mock
+    private ConfirmationBlockAllocator allocator;
+    
+    private ConfirmationNumberGenerator generator;
+    
+    @BeforeEach
+    void setUp() {
+        generator = new ConfirmationNumberGenerator(allocator, 50, "test-secret");
+    }
+    
+    @Test
+    void next_ShouldReserveOneBlockPerBlockSizeCodes() {
+        AtomicLong blocks = new AtomicLong();
+        when(allocator.reserveBlock()).thenAnswer(invocation -> blocks.getAndIncrement());
+        
+        for (int i = 0; i < 120; i++) {
+            generator.next();
+        }
+        
+        verify(allocator, times(3)).reserveBlock();
+    }
+    
+    @Test
+    void next_ShouldProduceUniquePrefixedCodes() {
+        AtomicLong blocks = new AtomicLong();
+        when(allocator.reserveBlock()).thenAnswer(invocation -> blocks.getAndIncrement());
+        
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String code = generator.next();
+            assertTrue(code.matches("BK[0-9A-HJKMNP-TV-Z]{9}"), code);
+            assertTrue(codes.add(code), "duplicate code " + code);
+        }
+    }
+    
+    @Test
+    void constructor_ShouldRequireSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfirmationNumberGenerator(allocator, 50, " "));
+    }
+    
+    @Test
+    void encode_ShouldNotExposeSequenceOrder() {
+        String first = generator.encode(1);
+        String second = generator.encode(2);
+        
+        assertNotEquals(first, second);
+        assertNotEquals(first.substring(0, 8), second.substring(0, 8));
+    }
+    
+    @Test
+    void permute_ShouldDependOnSecret() {
+        ConfirmationNumberGenerator other = new ConfirmationNumberGenerator(allocator, 50, "another-secret");
+        
+        assertNotEquals(generator.permute(42), other.permute(42));
+    }
+}
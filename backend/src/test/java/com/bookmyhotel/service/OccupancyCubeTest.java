@@ -0,0 +1,95 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookmyhotel.entity.RoomType;
+
+class OccupancyCubeTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private OccupancyCube cube;
+
+    @BeforeEach
+    void setUp() {
+        int[] capacity = new int[RoomType.values().length];
+        capacity[RoomType.DOUBLE.ordinal()] = 10;
+        capacity[RoomType.SUITE.ordinal()] = 2;
+        cube = new OccupancyCube(START, 60, capacity);
+    }
+
+    @Test
+    void query_ShouldComputeOccupancyAdrAndRevpar() {
+        cube.put(1L, RoomType.DOUBLE, START, START.plusDays(3), new BigDecimal("300.00"));
+        cube.put(2L, RoomType.DOUBLE, START.plusDays(1), START.plusDays(2), new BigDecimal("150.00"));
+
+        OccupancyCube.OccupancyKpi kpi = cube.query(RoomType.DOUBLE, START, START.plusDays(2));
+
+        assertEquals(20, kpi.getRoomNightsAvailable());
+        assertEquals(3, kpi.getRoomNightsSold());
+        assertEquals(new BigDecimal("350.00"), kpi.getRevenue());
+        assertEquals(new BigDecimal("0.1500"), kpi.getOccupancyRate());
+        assertEquals(new BigDecimal("116.67"), kpi.getAdr());
+        assertEquals(new BigDecimal("17.50"), kpi.getRevpar());
+    }
+
+    @Test
+    void query_AllRoomTypes_ShouldSumTypes() {
+        cube.put(1L, RoomType.DOUBLE, START, START.plusDays(1), new BigDecimal("100.00"));
+        cube.put(2L, RoomType.SUITE, START, START.plusDays(1), new BigDecimal("400.00"));
+
+        OccupancyCube.OccupancyKpi kpi = cube.query(null, START, START.plusDays(1));
+
+        assertEquals(12, kpi.getRoomNightsAvailable());
+        assertEquals(2, kpi.getRoomNightsSold());
+        assertEquals(new BigDecimal("500.00"), kpi.getRevenue());
+    }
+
+    @Test
+    void put_SameReservationAgain_ShouldReplacePreviousContribution() {
+        cube.put(1L, RoomType.DOUBLE, START, START.plusDays(3), new BigDecimal("300.00"));
+        cube.put(1L, RoomType.DOUBLE, START.plusDays(10), START.plusDays(11), new BigDecimal("90.00"));
+
+        assertEquals(0, cube.query(RoomType.DOUBLE, START, START.plusDays(3)).getRoomNightsSold());
+        assertEquals(new BigDecimal("90.00"), cube.query(null, START, START.plusDays(60)).getRevenue());
+
+        cube.remove(1L);
+        assertEquals(0, cube.query(null, START, START.plusDays(60)).getRoomNightsSold());
+    }
+
+    @Test
+    void query_ShouldSplitUnevenTotalsWithoutLosingCents() {
+        cube.put(1L, RoomType.DOUBLE, START, START.plusDays(3), new BigDecimal("100.00"));
+
+        assertEquals(new BigDecimal("33.34"), cube.query(RoomType.DOUBLE, START, START.plusDays(1)).getRevenue());
+        assertEquals(new BigDecimal("66.66"), cube.query(RoomType.DOUBLE, START.plusDays(1), START.plusDays(3)).getRevenue());
+    }
+
+    @Test
+    void query_OutsideWindow_ShouldBeClamped() {
+        cube.put(1L, RoomType.DOUBLE, START.minusDays(2), START.plusDays(1), new BigDecimal("300.00"));
+
+        OccupancyCube.OccupancyKpi kpi = cube.query(RoomType.DOUBLE, START.minusDays(10), START.plusDays(1));
+
+        assertEquals(10, kpi.getRoomNightsAvailable());
+        assertEquals(1, kpi.getRoomNightsSold());
+        assertEquals(new BigDecimal("100.00"), kpi.getRevenue());
+    }
+
+    @Test
+    void query_InsideLongStay_ShouldCountOnlyTheQueriedNights() {
+        cube.put(1L, RoomType.DOUBLE, START.plusDays(5), START.plusDays(75), new BigDecimal("7000.00"));
+
+        OccupancyCube.OccupancyKpi kpi = cube.query(RoomType.DOUBLE, START.plusDays(20), START.plusDays(30));
+
+        assertEquals(10, kpi.getRoomNightsSold());
+        assertEquals(new BigDecimal("1000.00"), kpi.getRevenue());
+        assertEquals(55, cube.query(null, START, START.plusDays(60)).getRoomNightsSold());
+    }
+}
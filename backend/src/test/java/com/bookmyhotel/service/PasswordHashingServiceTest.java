@@ -0,0 +1,101 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.bookmyhotel.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordHashingService service;
+
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void matches_ShouldDelegateAndRecordLatency() {
+        service = new PasswordHashingService(new PlainEncoder(null), meterRegistry, 1, 1, 1000);
+
+        assertTrue(service.matches("secret", "{hashed}secret"));
+        assertEquals("{hashed}secret", service.encode("secret"));
+        assertEquals(1, meterRegistry.get("bookmyhotel.auth.password_hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matches_WhenQueueFull_ShouldRejectWithTooManyRequests() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        service = new PasswordHashingService(new PlainEncoder(started), meterRegistry, 1, 1, 1000);
+        callers = Executors.newFixedThreadPool(2);
+
+        // One hash occupies the only thread, a second fills the queue
+        callers.submit(() -> service.matches("a", "{hashed}a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> service.matches("b", "{hashed}b"));
+        waitForQueueDepth(1);
+
+        assertThrows(TooManyRequestsException.class, () -> service.matches("c", "{hashed}c"));
+        assertEquals(1.0, meterRegistry.get("bookmyhotel.auth.password_hashing.rejected").counter().count());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("bookmyhotel.auth.password_hashing.queue.depth").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "queue never filled");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Encoder that can block until the test releases it, standing in for a slow BCrypt
+     */
+    private class PlainEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+
+        PlainEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookmyhotel.entity.RateRule;
+import com.bookmyhotel.entity.RateRuleType;
+import com.bookmyhotel.entity.RoomType;
+
+class RateTableTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private Map<RoomType, BigDecimal> basePrices;
+    private List<RateRule> rules;
+
+    @BeforeEach
+    void setUp() {
+        basePrices = new EnumMap<>(RoomType.class);
+        basePrices.put(RoomType.DOUBLE, new BigDecimal("100.00"));
+        rules = new ArrayList<>();
+    }
+
+    @Test
+    void quote_WithoutRules_ShouldMultiplyBasePrice() {
+        RateTable table = RateTable.compile(START, 30, basePrices, rules);
+
+        assertEquals(new BigDecimal("300.00"), table.quote(RoomType.DOUBLE, START, START.plusDays(3)));
+        assertNull(table.quote(RoomType.SUITE, START, START.plusDays(3)));
+    }
+
+    @Test
+    void quote_ShouldApplyNightlyRatesAndSeasonalAdjustments() {
+        rules.add(rule(1L, null, RateRuleType.SEASONAL_ADJUSTMENT, START, START.plusDays(9), "20"));
+        rules.add(rule(2L, RoomType.DOUBLE, RateRuleType.NIGHTLY_RATE, START.plusDays(1), START.plusDays(1), "250"));
+
+        RateTable table = RateTable.compile(START, 30, basePrices, rules);
+
+        // 120 + 250 (fixed, not adjusted) + 120
+        assertEquals(new BigDecimal("490.00"), table.quote(RoomType.DOUBLE, START, START.plusDays(3)));
+        // Room-specific base price goes through the same rules
+        assertEquals(new BigDecimal("370.00"), table.quote(RoomType.DOUBLE, new BigDecimal("50.00"), START, START.plusDays(3)));
+    }
+
+    @Test
+    void quote_ShouldApplyBestLengthOfStayDiscount() {
+        RateRule weekly = rule(1L, null, RateRuleType.LENGTH_OF_STAY_DISCOUNT, null, null, "10");
+        weekly.setMinNights(7);
+        RateRule monthly = rule(2L, null, RateRuleType.LENGTH_OF_STAY_DISCOUNT, null, null, "25");
+        monthly.setMinNights(28);
+        rules.add(weekly);
+        rules.add(monthly);
+
+        RateTable table = RateTable.compile(START, 60, basePrices, rules);
+
+        assertEquals(new BigDecimal("600.00"), table.quote(RoomType.DOUBLE, START, START.plusDays(6)));
+        assertEquals(new BigDecimal("630.00"), table.quote(RoomType.DOUBLE, START, START.plusDays(7)));
+        assertEquals(new BigDecimal("2100.00"), table.quote(RoomType.DOUBLE, START, START.plusDays(28)));
+    }
+
+    @Test
+    void quote_OutsideCompiledWindow_ShouldMatchCompiledPricing() {
+        rules.add(rule(1L, null, RateRuleType.SEASONAL_ADJUSTMENT, START.plusDays(5), null, "-15"));
+
+        RateTable shortTable = RateTable.compile(START, 5, basePrices, rules);
+        RateTable longTable = RateTable.compile(START, 60, basePrices, rules);
+
+        LocalDate checkIn = START.plusDays(3);
+        LocalDate checkOut = START.plusDays(12);
+        assertEquals(longTable.quote(RoomType.DOUBLE, checkIn, checkOut),
+            shortTable.quote(RoomType.DOUBLE, checkIn, checkOut));
+        assertEquals(new BigDecimal("795.00"), longTable.quote(RoomType.DOUBLE, checkIn, checkOut));
+    }
+
+    private RateRule rule(Long id, RoomType roomType, RateRuleType ruleType,
+                          LocalDate startDate, LocalDate endDate, String amount) {
+        RateRule rule = new RateRule();
+        rule.setId(id);
+        rule.setRoomType(roomType);
+        rule.setRuleType(ruleType);
+        rule.setStartDate(startDate);
+        rule.setEndDate(endDate);
+        rule.setAmount(new BigDecimal(amount));
+        return rule;
+    }
+}
@@ -0,0 +1,88 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bookmyhotel.entity.RefreshToken;
+import com.bookmyhotel.repository.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private String lastIssuedToken;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", 60_000L);
+    }
+
+    @Test
+    void consume_ShouldRevokeTokenSoItCannotBeReused() {
+        RefreshToken stored = issue(5L, "family-1");
+        when(refreshTokenRepository.findByTokenHashForUpdate(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.save(stored)).thenReturn(stored);
+
+        RefreshToken consumed = refreshTokenService.consume(lastIssuedToken);
+
+        assertTrue(consumed.isRevoked());
+        assertEquals("family-1", consumed.getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void consume_WhenTokenAlreadyRotated_ShouldRevokeFamilyAndAccessTokens() {
+        RefreshToken stored = issue(5L, "family-1");
+        stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.consume(lastIssuedToken));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(tokenRevocationService).revokeUser(5L);
+    }
+
+    @Test
+    void consume_WhenExpired_ShouldReject() {
+        RefreshToken stored = issue(5L, "family-1");
+        stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.consume(lastIssuedToken));
+        assertFalse(stored.isRevoked());
+    }
+
+    /**
+     * Issue a token through the service and return the row it stored
+     */
+    private RefreshToken issue(Long userId, String familyId) {
+        lastIssuedToken = refreshTokenService.issue(userId, familyId);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertNotEquals(lastIssuedToken, saved.getValue().getTokenHash());
+        clearInvocations(refreshTokenRepository);
+        return saved.getValue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookmyhotel.entity.RefundJob;
+import com.bookmyhotel.entity.RefundStatus;
+import com.bookmyhotel.payment.FakePaymentGateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RefundWorkerTest {
+
+    @Mock
+    private RefundService refundService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RefundWorker worker;
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void process_WhenGatewaySucceeds_ShouldMarkJobSucceeded() {
+        FakePaymentGateway gateway = new FakePaymentGateway(0, 0);
+        worker = new RefundWorker(refundService, gateway, meterRegistry, 2);
+
+        worker.process(job(7L));
+
+        verify(refundService).markSucceeded(eq(7L), startsWith("re_fake_"));
+        assertEquals(1.0, meterRegistry.get("bookmyhotel.refunds.processed").tag("outcome", "succeeded").counter().count());
+    }
+
+    @Test
+    void process_WhenGatewayFails_ShouldScheduleRetry() {
+        FakePaymentGateway gateway = new FakePaymentGateway(0, 1.0);
+        worker = new RefundWorker(refundService, gateway, meterRegistry, 2);
+        when(refundService.markFailed(eq(7L), anyString(), eq(true))).thenReturn(RefundStatus.PENDING);
+
+        worker.process(job(7L));
+
+        verify(refundService, never()).markSucceeded(any(), any());
+        assertEquals(1.0, meterRegistry.get("bookmyhotel.refunds.processed").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    void process_RetriesOfSameJob_ShouldIssueOneRefund() {
+        FakePaymentGateway gateway = new FakePaymentGateway(0, 0);
+        worker = new RefundWorker(refundService, gateway, meterRegistry, 2);
+
+        worker.process(job(7L));
+        worker.process(job(7L));
+
+        assertEquals(1, gateway.getRefundCount());
+    }
+
+    @Test
+    void poll_ShouldNotClaimMoreThanPoolCapacity() {
+        FakePaymentGateway gateway = new FakePaymentGateway(0, 0);
+        worker = new RefundWorker(refundService, gateway, meterRegistry, 2);
+        when(refundService.claimBatch(anyInt())).thenReturn(List.of());
+
+        worker.poll();
+
+        verify(refundService).claimBatch(4);
+    }
+
+    private RefundJob job(Long id) {
+        RefundJob job = new RefundJob();
+        job.setId(id);
+        job.setReservationId(100L);
+        job.setPaymentIntentId("pi_test");
+        job.setAmount(new BigDecimal("250.00"));
+        job.setAttempts(1);
+        return job;
+    }
+}
@@ -0,0 +1,170 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.Reservation;
+import com.bookmyhotel.entity.ReservationStatus;
+import com.bookmyhotel.entity.ReservationTimer;
+import com.bookmyhotel.entity.ReservationTimerType;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.entity.User;
+import com.bookmyhotel.event.ReservationStatusChangedEvent;
+import com.bookmyhotel.exception.BookingException;
+import com.bookmyhotel.repository.ReservationRepository;
+import com.bookmyhotel.repository.ReservationTimerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationStateMachineTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationTimerRepository timerRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private RoomAssignmentService roomAssignmentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReservationStateMachine stateMachine;
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stateMachine, "pendingExpiryMinutes", 30L);
+        ReflectionTestUtils.setField(stateMachine, "noShowGraceHours", 6L);
+        ReflectionTestUtils.setField(stateMachine, "autoCheckOutTime", LocalTime.of(14, 0));
+
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+        User guest = new User();
+        guest.setId(2L);
+
+        reservation = new Reservation();
+        reservation.setId(3L);
+        reservation.setHotel(hotel);
+        reservation.setGuest(guest);
+        reservation.setRoomType(RoomType.DOUBLE);
+        reservation.setCheckInDate(LocalDate.of(2025, 6, 1));
+        reservation.setCheckOutDate(LocalDate.of(2025, 6, 4));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    void transition_ToCancelled_ShouldReleaseInventoryAndPublishEvent() {
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        stateMachine.transition(reservation, ReservationStatus.CANCELLED);
+
+        assertEquals(ReservationStatus.CANCELLED, reservation.getStatus());
+        verify(inventoryService).release(reservation);
+        verify(timerRepository).deleteByReservationId(3L);
+        verify(timerRepository, never()).save(any());
+
+        ArgumentCaptor<ReservationStatusChangedEvent> event = ArgumentCaptor.forClass(ReservationStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ReservationStatus.CONFIRMED, event.getValue().getPreviousStatus());
+        assertEquals(ReservationStatus.CANCELLED, event.getValue().getNewStatus());
+        assertEquals(2L, event.getValue().getGuestId());
+    }
+
+    @Test
+    void transition_NotAllowed_ShouldThrowWithoutChanges() {
+        reservation.setStatus(ReservationStatus.CHECKED_OUT);
+
+        assertThrows(BookingException.class,
+            () -> stateMachine.transition(reservation, ReservationStatus.CHECKED_IN));
+
+        assertEquals(ReservationStatus.CHECKED_OUT, reservation.getStatus());
+        verifyNoInteractions(reservationRepository, inventoryService, eventPublisher);
+    }
+
+    @Test
+    void transition_ToCheckedIn_ShouldArmAutoCheckOut() {
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        stateMachine.transition(reservation, ReservationStatus.CHECKED_IN);
+
+        verify(roomAssignmentService).assignRoom(reservation);
+        verify(inventoryService, never()).release(any());
+        ArgumentCaptor<ReservationTimer> timer = ArgumentCaptor.forClass(ReservationTimer.class);
+        verify(timerRepository).save(timer.capture());
+        assertEquals(ReservationTimerType.AUTO_CHECK_OUT, timer.getValue().getTimerType());
+        assertEquals(LocalDateTime.of(2025, 6, 4, 14, 0), timer.getValue().getDueAt());
+    }
+
+    @Test
+    void onCreated_PendingWithoutHold_ShouldNotArmExpiry() {
+        reservation.setStatus(ReservationStatus.PENDING);
+
+        stateMachine.onCreated(reservation);
+
+        verify(timerRepository, never()).save(any());
+    }
+
+    @Test
+    void holdForPayment_ShouldArmExpiryAtHoldEnd() {
+        reservation.setStatus(ReservationStatus.PENDING);
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        stateMachine.holdForPayment(reservation);
+
+        ArgumentCaptor<ReservationTimer> timer = ArgumentCaptor.forClass(ReservationTimer.class);
+        verify(timerRepository).save(timer.capture());
+        assertEquals(ReservationTimerType.PENDING_EXPIRY, timer.getValue().getTimerType());
+        assertEquals(reservation.getHoldExpiresAt(), timer.getValue().getDueAt());
+        assertNotNull(reservation.getHoldExpiresAt());
+    }
+
+    @Test
+    void fireDueTimers_ShouldSkipTimersNoLongerArmed() {
+        ReservationTimer stale = new ReservationTimer(3L, ReservationTimerType.PENDING_EXPIRY, LocalDateTime.now());
+        when(timerRepository.claimDue(any(), eq(10))).thenReturn(List.of(stale));
+        when(reservationRepository.findAllById(List.of(3L))).thenReturn(List.of(reservation));
+
+        int claimed = stateMachine.fireDueTimers(LocalDateTime.now(), 10);
+
+        assertEquals(1, claimed);
+        assertEquals(ReservationStatus.CONFIRMED, reservation.getStatus());
+        verify(timerRepository).delete(stale);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void fireDueTimers_ShouldMarkNoShow() {
+        ReservationTimer noShow = new ReservationTimer(3L, ReservationTimerType.NO_SHOW, LocalDateTime.now());
+        when(timerRepository.claimDue(any(), eq(10))).thenReturn(List.of(noShow));
+        when(reservationRepository.findAllById(List.of(3L))).thenReturn(List.of(reservation));
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        stateMachine.fireDueTimers(LocalDateTime.now(), 10);
+
+        assertEquals(ReservationStatus.NO_SHOW, reservation.getStatus());
+        verify(inventoryService).release(reservation);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bookmyhotel.dto.RoomImportResult;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.Room;
+import com.bookmyhotel.entity.RoomType;
+import com.bookmyhotel.event.RoomInventoryChangedEvent;
+import com.bookmyhotel.repository.RoomJdbcRepository;
+import com.bookmyhotel.repository.RoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RoomImportServiceTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomJdbcRepository roomJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RoomImportService roomImportService;
+
+    private Hotel hotel;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(roomImportService, "batchSize", 2);
+        hotel = new Hotel();
+        hotel.setId(1L);
+    }
+
+    @Test
+    void importRooms_ShouldInsertValidRowsInBatchesAndReportInvalidLines() {
+        String csv = String.join("\n",
+            "roomNumber,roomType,pricePerNight,capacity,description",
+            "102,DOUBLE,120.00,2,\"Sea view, balcony\"",
+            "101,SINGLE,80,1,",
+            "103,PENTHOUSE,500,4,",
+            "104,single,-5,1,",
+            "102,DOUBLE,120,2,",
+            "105,suite,300,4,",
+            "106,DOUBLE,110,2");
+        when(roomRepository.findRoomNumbersByHotelId(1L)).thenReturn(List.of("101"));
+
+        RoomImportResult result = roomImportService.importRooms(hotel, "tenant-1", new StringReader(csv));
+
+        assertEquals(3, result.getImported());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L, 6L), result.getErrors().stream().map(RoomImportResult.LineError::getLine).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Room>> batches = ArgumentCaptor.forClass(List.class);
+        verify(roomJdbcRepository, times(2)).batchInsert(batches.capture());
+        assertEquals(List.of("102", "105"), batches.getAllValues().get(0).stream().map(Room::getRoomNumber).toList());
+        assertEquals("Sea view, balcony", batches.getAllValues().get(0).get(0).getDescription());
+        assertEquals(List.of("106"), batches.getAllValues().get(1).stream().map(Room::getRoomNumber).toList());
+
+        ArgumentCaptor<RoomInventoryChangedEvent> events = ArgumentCaptor.forClass(RoomInventoryChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertTrue(events.getAllValues().stream()
+            .anyMatch(e -> e.getRoomType() == RoomType.DOUBLE && e.getDelta() == 2));
+    }
+
+    @Test
+    void parseCsvLine_ShouldHonourQuotesAndEscapes() {
+        assertEquals(List.of("1", "a, \"b\"", ""), RoomImportService.parseCsvLine("1,\"a, \"\"b\"\"\","));
+        assertThrows(IllegalArgumentException.class, () -> RoomImportService.parseCsvLine("1,\"open"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookmyhotel.entity.RevokedToken;
+import com.bookmyhotel.repository.RevokedTokenRepository;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService revocationService;
+
+    private LocalDateTime revokedAt;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new TokenRevocationService(revokedTokenRepository, new SimpleMeterRegistry(),
+            900_000L, 1000L, 0.01, 30_000L);
+        revocationService.revokeUser(5L);
+
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        revokedAt = saved.getValue().getRevokedAt();
+    }
+
+    @Test
+    void revokeUser_ShouldStoreWholeSeconds() {
+        assertEquals(0, revokedAt.getNano());
+    }
+
+    @Test
+    void isRevoked_ShouldKeepTokensIssuedInTheRevocationSecond() {
+        when(revokedTokenRepository.findLatestRevokedAt(anyString())).thenReturn(revokedAt);
+
+        assertFalse(revocationService.isRevoked(claims(revokedAt)));
+        assertTrue(revocationService.isRevoked(claims(revokedAt.minusSeconds(1))));
+    }
+
+    private static Claims claims(LocalDateTime issuedAt) {
+        return Jwts.claims()
+            .add("userId", 5L)
+            .issuedAt(Date.from(issuedAt.atZone(ZoneId.systemDefault()).toInstant()))
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookmyhotel.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookmyhotel.config.JwtPrincipal;
+import com.bookmyhotel.event.UserAccountChangedEvent;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserPrincipalCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserPrincipalCache cache;
+
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(meterRegistry, 100, 900000);
+        claims = Jwts.claims()
+            .id("token-1")
+            .subject("frontdesk@example.com")
+            .add("userId", 5L)
+            .add("roles", List.of("FRONTDESK"))
+            .build();
+    }
+
+    @Test
+    void get_ShouldBuildOncePerTokenAndReturnCredentialFreePrincipal() {
+        JwtPrincipal first = cache.get(claims);
+        JwtPrincipal second = cache.get(claims);
+
+        assertSame(first, second);
+        assertEquals(5L, first.getId());
+        assertNull(first.getPassword());
+        assertEquals("ROLE_FRONTDESK", first.getAuthorities().iterator().next().getAuthority());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userPrincipals").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    void onUserAccountChanged_ShouldEvictTheUsersPrincipals() {
+        JwtPrincipal first = cache.get(claims);
+
+        cache.onUserAccountChanged(new UserAccountChangedEvent(5L, "frontdesk@example.com"));
+
+        assertNotSame(first, cache.get(claims));
+    }
+}
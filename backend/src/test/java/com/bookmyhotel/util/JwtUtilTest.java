@@ -0,0 +1,83 @@
+package com.bookmyhotel.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookmyhotel.config.JwtPrincipal;
+import com.bookmyhotel.entity.Hotel;
+import com.bookmyhotel.entity.User;
+import com.bookmyhotel.entity.UserRole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "bookmyhotelverylongsecretkeythatisatleast256bitslongforsecurity123";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Hotel hotel = new Hotel();
+        hotel.setId(7L);
+        user = new User();
+        user.setId(42L);
+        user.setEmail("admin@example.com");
+        user.setTenantId("default");
+        user.setRoles(Set.of(UserRole.HOTEL_ADMIN));
+        user.setHotel(hotel);
+    }
+
+    @Test
+    void verify_ShouldReturnClaimsAndServeRepeatsFromCache() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+        String token = jwtUtil.generateToken(user);
+
+        Claims claims = jwtUtil.verify(token);
+
+        assertEquals("admin@example.com", claims.getSubject());
+        assertEquals(7, ((Number) claims.get("hotelId")).intValue());
+        assertSame(claims, jwtUtil.verify(token));
+        assertTrue(jwtUtil.isTokenValid(token));
+    }
+
+    @Test
+    void verify_WithTamperedSignature_ShouldFail() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+        String token = jwtUtil.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> jwtUtil.verify(tampered));
+        assertFalse(jwtUtil.isTokenValid(tampered));
+    }
+
+    @Test
+    void verify_WithExpiredToken_ShouldFail() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, -1_000L, 100);
+        String token = jwtUtil.generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertFalse(jwtUtil.isTokenValid(token));
+    }
+
+    @Test
+    void generateToken_ShouldCarryIdAndPrincipalClaims() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+        Claims first = jwtUtil.verify(jwtUtil.generateToken(user));
+        Claims second = jwtUtil.verify(jwtUtil.generateToken(user));
+
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+
+        JwtPrincipal principal = JwtPrincipal.fromClaims(first);
+        assertEquals(42L, principal.getId());
+        assertEquals("admin@example.com", principal.getUsername());
+        assertEquals("ROLE_HOTEL_ADMIN", principal.getAuthorities().iterator().next().getAuthority());
+    }
+}
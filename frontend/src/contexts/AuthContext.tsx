@@ -1,4 +1,4 @@
-import React, { createContext, useContext, ReactNode, useState, useEffect } from 'react';
+import React, { createContext, useContext, ReactNode, useState, useEffect, useCallback } from 'react';
 
 interface User {
   id: string;
@@ -27,6 +27,15 @@ interface AuthContextType {
 
 const AuthContext = createContext<AuthContextType | undefined>(undefined);
 
+const AUTH_API = 'http://localhost:8080/api/auth';
+
+// Renew the short-lived access token this long before it expires
+const REFRESH_MARGIN_MS = 60 * 1000;
+
+// Retry a refresh that failed on the network after this long, doubling up to the maximum
+const REFRESH_RETRY_MS = 5 * 1000;
+const REFRESH_RETRY_MAX_MS = 60 * 1000;
+
 interface AuthProviderProps {
   children: ReactNode;
 }
@@ -35,31 +44,131 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   const [user, setUser] = useState<User | null>(null);
   const [loading, setLoading] = useState(false);
   const [token, setToken] = useState<string | null>(null);
+  const [expiresAt, setExpiresAt] = useState<number | null>(null);
+  const [refreshFailures, setRefreshFailures] = useState(0);
+
+  const clearAuthState = useCallback(() => {
+    setUser(null);
+    setToken(null);
+    setExpiresAt(null);
+    setRefreshFailures(0);
+    
+    // Clear localStorage
+    localStorage.removeItem('auth_token');
+    localStorage.removeItem('auth_refresh_token');
+    localStorage.removeItem('auth_expires_at');
+    localStorage.removeItem('auth_user');
+  }, []);
+
+  const storeTokens = useCallback((loginData: any) => {
+    const tokenExpiresAt = Date.now() + loginData.expiresIn * 1000;
+    setToken(loginData.token);
+    setExpiresAt(tokenExpiresAt);
+    setRefreshFailures(0);
+    localStorage.setItem('auth_token', loginData.token);
+    localStorage.setItem('auth_refresh_token', loginData.refreshToken);
+    localStorage.setItem('auth_expires_at', tokenExpiresAt.toString());
+  }, []);
+
+  // Exchange the stored refresh token for a new access token; each refresh token works once,
+  // so tabs take turns under a lock and a tab that finds a newer token than its own adopts it
+  const rotateTokens = useCallback(async (knownExpiresAt: number | null) => {
+    const storedExpiresAt = Number(localStorage.getItem('auth_expires_at'));
+    const storedToken = localStorage.getItem('auth_token');
+    if (storedToken && knownExpiresAt !== null && storedExpiresAt > knownExpiresAt) {
+      setToken(storedToken);
+      setExpiresAt(storedExpiresAt);
+      setRefreshFailures(0);
+      return;
+    }
+    const refreshToken = localStorage.getItem('auth_refresh_token');
+    if (!refreshToken) {
+      clearAuthState();
+      return;
+    }
+    try {
+      const response = await fetch(`${AUTH_API}/refresh`, {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/json',
+        },
+        body: JSON.stringify({ refreshToken }),
+      });
+      if (!response.ok) {
+        console.error('Session refresh failed:', response.status);
+        clearAuthState();
+        return;
+      }
+      storeTokens(await response.json());
+    } catch (error) {
+      // The refresh token is still good; try again shortly
+      console.error('Session refresh failed:', error);
+      setRefreshFailures(failures => failures + 1);
+    }
+  }, [clearAuthState, storeTokens]);
+
+  const refreshAccessToken = useCallback(async (knownExpiresAt: number | null) => {
+    if (navigator.locks) {
+      await navigator.locks.request('auth_refresh', () => rotateTokens(knownExpiresAt));
+    } else {
+      await rotateTokens(knownExpiresAt);
+    }
+  }, [rotateTokens]);
+
+  // Follow tokens rotated, or sessions ended, in other tabs
+  useEffect(() => {
+    const onStorage = (event: StorageEvent) => {
+      if (event.key === 'auth_expires_at' && event.newValue) {
+        setToken(localStorage.getItem('auth_token'));
+        setExpiresAt(Number(event.newValue));
+        setRefreshFailures(0);
+      } else if (event.key === 'auth_token' && event.newValue === null) {
+        setUser(null);
+        setToken(null);
+        setExpiresAt(null);
+      }
+    };
+    window.addEventListener('storage', onStorage);
+    return () => window.removeEventListener('storage', onStorage);
+  }, []);
 
   // Load authentication state from localStorage on startup
   useEffect(() => {
     const savedToken = localStorage.getItem('auth_token');
     const savedUser = localStorage.getItem('auth_user');
+    const savedExpiresAt = Number(localStorage.getItem('auth_expires_at'));
     
     if (savedToken && savedUser) {
       try {
         setToken(savedToken);
         setUser(JSON.parse(savedUser));
+        setExpiresAt(savedExpiresAt || Date.now());
         console.log('Restored auth state from localStorage');
       } catch (error) {
         console.error('Failed to restore auth state:', error);
-        localStorage.removeItem('auth_token');
-        localStorage.removeItem('auth_user');
+        clearAuthState();
       }
     }
-  }, []);
+  }, [clearAuthState]);
+
+  // Keep the access token fresh while signed in, backing off after network failures
+  useEffect(() => {
+    if (!user || expiresAt === null) {
+      return;
+    }
+    const delay = refreshFailures > 0
+      ? Math.min(REFRESH_RETRY_MS * Math.pow(2, refreshFailures - 1), REFRESH_RETRY_MAX_MS)
+      : Math.max(0, expiresAt - Date.now() - REFRESH_MARGIN_MS);
+    const timer = setTimeout(() => refreshAccessToken(expiresAt), delay);
+    return () => clearTimeout(timer);
+  }, [user, expiresAt, refreshFailures, refreshAccessToken]);
 
   const login = async (email: string, password: string): Promise<boolean> => {
     setLoading(true);
     try {
       console.log('Attempting login with:', email, password);
       
-      const response = await fetch('http://localhost:8080/api/auth/login', {
+      const response = await fetch(`${AUTH_API}/login`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -96,10 +205,9 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
       };
 
       setUser(user);
-      setToken(loginData.token);
+      storeTokens(loginData);
       
       // Persist to localStorage
-      localStorage.setItem('auth_token', loginData.token);
       localStorage.setItem('auth_user', JSON.stringify(user));
       
       return true;
@@ -112,12 +220,18 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   };
 
   const logout = () => {
-    setUser(null);
-    setToken(null);
-    
-    // Clear localStorage
-    localStorage.removeItem('auth_token');
-    localStorage.removeItem('auth_user');
+    // Revoke the session server-side; the local state is cleared either way
+    const refreshToken = localStorage.getItem('auth_refresh_token');
+    fetch(`${AUTH_API}/logout`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+      },
+      body: JSON.stringify({ refreshToken }),
+    }).catch(error => console.error('Logout request failed:', error));
+
+    clearAuthState();
     
     console.log('User logged out');
   };